@@ -35,7 +35,7 @@ show_usage() {
 # Build
 build() {
     echo -e "${YELLOW}→ Building JAR...${NC}"
-    ./mvnw clean package -DskipTests
+    ./mvnw clean package -Paot -DskipTests
     
     if [ $? -eq 0 ]; then
         cp target/music-api-0.0.1-SNAPSHOT.jar app-music.jar
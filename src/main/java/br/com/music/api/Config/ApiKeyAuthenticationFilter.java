@@ -0,0 +1,54 @@
+package br.com.music.api.Config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authenticates internal callers that send an opaque key in the {@code X-API-Key} header.
+ * Requests without the header fall through to {@link JwtAuthenticationFilter}.
+ */
+public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-API-Key";
+
+    private final ApiKeyService apiKeyService;
+    private final PublicPaths publicPaths;
+
+    public ApiKeyAuthenticationFilter(ApiKeyService apiKeyService, PublicPaths publicPaths) {
+        this.apiKeyService = apiKeyService;
+        this.publicPaths = publicPaths;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = request.getHeader(HEADER);
+        if (!StringUtils.hasText(key) || publicPaths.matches(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<ApiKeyService.ApiKeyPrincipal> principal = apiKeyService.authenticate(key);
+        if (principal.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Invalid API key\",\"message\":\"The API key is unknown, revoked or expired\"}");
+            return;
+        }
+
+        // No request details: callers are services, and building them costs more than the lookup itself
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "apikey:" + principal.get().nome(), null, principal.get().authorities()));
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.music.api.Config;
+
+import br.com.music.api.Domain.ApiKey;
+import br.com.music.api.Repository.ApiKeyRepository;
+import br.com.music.api.util.TtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Issues and validates opaque API keys for internal callers. Only the SHA-256 of a key is stored;
+ * validated keys are kept in a local TTL cache so a repeated key costs a single map lookup.
+ * <p>
+ * Revocation is immediate on the instance that handles it and takes at most the cache TTL on
+ * the others.
+ */
+@Service
+public class ApiKeyService {
+
+    public record IssuedKey(ApiKey apiKey, String token) {}
+
+    public record ApiKeyPrincipal(Long id, String nome, Set<GrantedAuthority> authorities, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    static final String TOKEN_PREFIX = "mk_";
+    private static final int TOKEN_BYTES = 16;
+    // Prefix plus 16 bytes in unpadded base64url
+    private static final int TOKEN_LENGTH = TOKEN_PREFIX.length() + 22;
+
+    private final SecureRandom random = new SecureRandom();
+    private final ApiKeyRepository repository;
+    private final TtlCache<String, ApiKeyPrincipal> validKeys;
+    // Kept apart so random keys sent by a client cannot evict valid entries
+    private final TtlCache<String, Boolean> unknownKeys;
+
+    public ApiKeyService(ApiKeyRepository repository,
+                         @Value("${auth.api-keys.cache-ttl-ms:60000}") long cacheTtlMs,
+                         @Value("${auth.api-keys.cache-size:10000}") int cacheSize) {
+        this.repository = repository;
+        this.validKeys = new TtlCache<>(cacheTtlMs, cacheSize);
+        this.unknownKeys = new TtlCache<>(cacheTtlMs, cacheSize);
+    }
+
+    @Transactional
+    public IssuedKey issue(String nome, Collection<String> scopes, Integer validadeDias) {
+        String normalizedScopes = normalizeScopes(scopes);
+        if (normalizedScopes.isEmpty()) {
+            throw new IllegalArgumentException("At least one scope is required");
+        }
+
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = TOKEN_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        ApiKey apiKey = new ApiKey();
+        apiKey.setNome(nome);
+        apiKey.setKeyHash(RefreshTokenService.hash(token));
+        apiKey.setScopes(normalizedScopes);
+        apiKey.setAtivo(true);
+        apiKey.setCriadoEm(LocalDateTime.now());
+        if (validadeDias != null && validadeDias > 0) {
+            apiKey.setExpiraEm(apiKey.getCriadoEm().plusDays(validadeDias));
+        }
+        return new IssuedKey(repository.save(apiKey), token);
+    }
+
+    public Optional<ApiKeyPrincipal> authenticate(String token) {
+        if (token == null || token.length() != TOKEN_LENGTH || !token.startsWith(TOKEN_PREFIX)) {
+            return Optional.empty();
+        }
+
+        ApiKeyPrincipal principal = validKeys.get(token);
+        if (principal == null) {
+            if (unknownKeys.get(token) != null) {
+                return Optional.empty();
+            }
+            principal = load(token);
+            if (principal == null) {
+                unknownKeys.put(token, Boolean.TRUE);
+                return Optional.empty();
+            }
+            validKeys.put(token, principal);
+        }
+
+        if (principal.isExpired(System.currentTimeMillis())) {
+            validKeys.invalidate(token);
+            return Optional.empty();
+        }
+        return Optional.of(principal);
+    }
+
+    @Transactional
+    public boolean revoke(Long id) {
+        return repository.findById(id)
+                .map(apiKey -> {
+                    apiKey.setAtivo(false);
+                    repository.save(apiKey);
+                    validKeys.invalidateIf(principal -> principal.id().equals(id));
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private ApiKeyPrincipal load(String token) {
+        return repository.findByKeyHashAndAtivoTrue(RefreshTokenService.hash(token))
+                .map(apiKey -> new ApiKeyPrincipal(
+                        apiKey.getId(),
+                        apiKey.getNome(),
+                        RoleAuthorities.fromClaim(apiKey.getScopes()),
+                        apiKey.getExpiraEm() == null ? Long.MAX_VALUE
+                                : apiKey.getExpiraEm().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
+                .filter(principal -> !principal.isExpired(System.currentTimeMillis()))
+                .orElse(null);
+    }
+
+    // Scopes use the same role names as users (e.g. "ADMIN", "USER")
+    static String normalizeScopes(Collection<String> scopes) {
+        if (scopes == null) {
+            return "";
+        }
+        return scopes.stream()
+                .filter(scope -> scope != null && !scope.isBlank())
+                .map(scope -> scope.trim().toUpperCase(Locale.ROOT))
+                .map(scope -> scope.startsWith(RoleAuthorities.ROLE_PREFIX)
+                        ? scope.substring(RoleAuthorities.ROLE_PREFIX.length()) : scope)
+                .sorted()
+                .distinct()
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.music.api.Config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps concurrent connection checkouts with a fair semaphore sized to the pool.
+ * <p>
+ * With virtual threads every request can reach the database at once; excess callers park on the
+ * semaphore in arrival order and fail after the pool's connection timeout, instead of piling up
+ * inside the pool. A permit is returned when the connection is closed.
+ * <p>
+ * The timeout is one budget for the whole checkout: whatever the caller spent parked on the
+ * semaphore is taken off what the pool may wait, given a {@link TimedConnectionSource} that
+ * accepts a per-call limit.
+ */
+public class BoundedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    /** Checks a connection out of the target, waiting at most {@code timeoutMs}. */
+    @FunctionalInterface
+    public interface TimedConnectionSource {
+        Connection getConnection(long timeoutMs) throws SQLException;
+    }
+
+    private final Semaphore permits;
+    private final long timeoutMs;
+    private final TimedConnectionSource connections;
+
+    /** For targets that apply their own timeout; the semaphore wait then comes on top of it. */
+    public BoundedDataSource(DataSource target, int maxConnections, long timeoutMs) {
+        this(target, maxConnections, timeoutMs, remaining -> target.getConnection());
+    }
+
+    public BoundedDataSource(DataSource target, int maxConnections, long timeoutMs, TimedConnectionSource connections) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.timeoutMs = timeoutMs;
+        this.connections = connections;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long remaining = acquire();
+        try {
+            return releasingOnClose(connections.getConnection(remaining));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    // Lets the container shut the pool down; the inferred destroy method sees only this wrapper
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /** Estimated number of callers parked waiting for a permit. */
+    public int getWaitingCallers() {
+        return permits.getQueueLength();
+    }
+
+    // Returns what is left of the timeout once the permit is held
+    private long acquire() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + timeoutMs + "ms waiting for a database connection permit");
+            }
+            return Math.max(0, timeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit", ex);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.music.api.Config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Health indicator that only ever returns the last result of a dependency check. A virtual thread
+ * re-runs the check every {@code ttl}, so probe traffic adds no latency and no load to the
+ * dependency no matter how often it arrives.
+ * <p>
+ * Until the first check completes the indicator is {@code OUT_OF_SERVICE}; a check still running
+ * after {@code timeout} is reported {@code DOWN} without waiting for it to return.
+ */
+public class CachedHealthIndicator implements HealthIndicator, AutoCloseable {
+
+    /** The actual dependency check; exceptions are reported as {@code DOWN}. */
+    @FunctionalInterface
+    public interface Check {
+        Health run() throws Exception;
+    }
+
+    private final Check check;
+    private final Duration ttl;
+    private final Duration timeout;
+    private final Thread refresher;
+
+    private volatile Health last = Health.outOfService().withDetail("reason", "Not checked yet").build();
+    // System.nanoTime() when the running check started, 0 while idle
+    private volatile long checkStartedAt;
+
+    public CachedHealthIndicator(String name, Check check, Duration ttl, Duration timeout) {
+        this(name, check, ttl, timeout, true);
+    }
+
+    /**
+     * With {@code refreshing} false no thread is started and the indicator stays
+     * {@code OUT_OF_SERVICE}, for runs that never serve probes ({@code app.migrate-only}).
+     */
+    public CachedHealthIndicator(String name, Check check, Duration ttl, Duration timeout, boolean refreshing) {
+        this.check = check;
+        this.ttl = ttl;
+        this.timeout = timeout;
+        this.refresher = refreshing ? Thread.ofVirtual().name("health-" + name).start(this::refreshLoop) : null;
+    }
+
+    @Override
+    public Health health() {
+        long started = checkStartedAt;
+        if (started != 0 && System.nanoTime() - started > timeout.toNanos()) {
+            return Health.down().withDetail("reason", "Check did not answer within " + timeout.toMillis() + "ms").build();
+        }
+        return last;
+    }
+
+    private void refreshLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            refresh();
+            try {
+                Thread.sleep(ttl);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    void refresh() {
+        checkStartedAt = System.nanoTime();
+        Health result;
+        try {
+            result = check.run();
+        } catch (Exception e) {
+            result = Health.down(e).build();
+        }
+        last = Health.status(result.getStatus())
+                .withDetails(result.getDetails())
+                .withDetail("checkedAt", Instant.now().toString())
+                .build();
+        checkStartedAt = 0;
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.interrupt();
+        }
+    }
+}
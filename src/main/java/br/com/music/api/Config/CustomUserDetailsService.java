@@ -2,15 +2,11 @@ package br.com.music.api.Config;
 
 import br.com.music.api.Domain.User;
 import br.com.music.api.Repository.UserRepository;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
@@ -25,18 +21,10 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-        if (user.getRoles() != null) {
-            String[] roles = user.getRoles().split(",");
-            for (String role : roles) {
-                authorities.add(new SimpleGrantedAuthority("ROLE_" + role.trim()));
-            }
-        }
-
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUsername())
                 .password(user.getPassword())
-                .authorities(authorities)
+                .authorities(RoleAuthorities.fromClaim(user.getRoles()))
                 .accountLocked(!user.getAtivo())
                 .build();
     }
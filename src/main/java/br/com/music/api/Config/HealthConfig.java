@@ -0,0 +1,54 @@
+package br.com.music.api.Config;
+
+import io.minio.BucketExistsArgs;
+import io.minio.MinioClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Dependency checks for the readiness probe ({@code /actuator/health/readiness}). Liveness only
+ * reflects the application state, so an outage of Postgres or MinIO takes the pod out of the
+ * load balancer instead of restarting it.
+ */
+@Configuration
+public class HealthConfig {
+
+    @Value("${app.health.ttl:10s}")
+    private Duration ttl;
+
+    @Value("${app.health.timeout:2s}")
+    private Duration timeout;
+
+    // The migration job exits before serving a probe, so the checks are not run
+    @Value("${app.migrate-only:false}")
+    private boolean migrateOnly;
+
+    @Bean
+    public CachedHealthIndicator postgresHealthIndicator(DataSource dataSource) {
+        return new CachedHealthIndicator("postgres", () -> {
+            try (Connection connection = dataSource.getConnection()) {
+                boolean valid = connection.isValid((int) Math.max(1, timeout.toSeconds()));
+                return (valid ? Health.up() : Health.down())
+                        .withDetail("database", connection.getMetaData().getDatabaseProductName())
+                        .build();
+            }
+        }, ttl, timeout, !migrateOnly);
+    }
+
+    @Bean
+    public CachedHealthIndicator minioHealthIndicator(MinioClient minioClient,
+                                                      @Value("${minio.bucket.name}") String bucket) {
+        return new CachedHealthIndicator("minio", () -> {
+            boolean exists = minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucket).build());
+            return (exists ? Health.up() : Health.down().withDetail("reason", "Bucket does not exist"))
+                    .withDetail("bucket", bucket)
+                    .build();
+        }, ttl, timeout, !migrateOnly);
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.music.api.Config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-instance stand-in for {@link RedisRefreshTokenStore}, used by tests and local runs
+ * without Redis ({@code auth.refresh-store=memory}).
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    // previousHash is the token rotated last and is honoured until graceUntil
+    private record Entry(String username, String hash, String roles, long expiresAt, String previousHash,
+                         long graceUntil) {
+        boolean expired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+
+        boolean inGrace(String presentedHash) {
+            return presentedHash.equals(previousHash) && System.currentTimeMillis() < graceUntil;
+        }
+    }
+
+    private final Map<String, Entry> families = new ConcurrentHashMap<>();
+
+    @Override
+    public void register(String familyId, String username, String tokenHash, String roles, Duration ttl) {
+        families.put(familyId, new Entry(username, tokenHash, roles, System.currentTimeMillis() + ttl.toMillis(),
+                null, 0));
+    }
+
+    @Override
+    public Rotation rotate(String familyId, String username, String presentedHash, String newHash, Duration ttl,
+                           Duration grace) {
+        Rotation[] rotation = {Rotation.of(Result.UNKNOWN)};
+        families.compute(familyId, (id, current) -> {
+            if (current == null || current.expired()) {
+                return null;
+            }
+            long now = System.currentTimeMillis();
+            if (current.hash().equals(presentedHash)) {
+                rotation[0] = new Rotation(Result.ROTATED, current.roles());
+                return new Entry(current.username(), newHash, current.roles(), now + ttl.toMillis(), presentedHash,
+                        now + grace.toMillis());
+            }
+            if (current.inGrace(presentedHash)) {
+                rotation[0] = Rotation.of(Result.ALREADY_ROTATED);
+                return current;
+            }
+            rotation[0] = Rotation.of(Result.REUSED);
+            return null;
+        });
+        return rotation[0];
+    }
+
+    @Override
+    public void updateRoles(String username, String roles) {
+        families.replaceAll((id, entry) -> entry.username().equals(username)
+                ? new Entry(username, entry.hash(), roles, entry.expiresAt(), entry.previousHash(), entry.graceUntil())
+                : entry);
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        families.remove(familyId);
+    }
+
+    @Override
+    public void revokeAll(String username) {
+        families.values().removeIf(entry -> entry.username().equals(username));
+    }
+}
@@ -1,5 +1,8 @@
 package br.com.music.api.Config;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,19 +18,21 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final PublicPaths publicPaths;
+    private final Tracer tracer;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, PublicPaths publicPaths, Tracer tracer) {
         this.tokenProvider = tokenProvider;
+        this.publicPaths = publicPaths;
+        this.tracer = tracer;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         
-        String requestPath = request.getRequestURI();
-        
-        // Skip JWT validation for Swagger and API docs endpoints
-        if (isSwaggerOrPublicEndpoint(requestPath)) {
+        // Skip JWT validation for Swagger, API docs and other public endpoints
+        if (publicPaths.matches(request)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -36,11 +41,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt)) {
-                if (tokenProvider.validateToken(jwt)) {
-                    String username = tokenProvider.getUsernameFromToken(jwt);
-
+                Claims claims = verify(jwt);
+                // Refresh tokens are only accepted by the refresh endpoint
+                if (claims != null && !JwtTokenProvider.REFRESH_TYPE.equals(
+                        claims.get(JwtTokenProvider.TYPE_CLAIM, String.class))) {
+                    // Authorities come from the token itself, so no user lookup is needed per request
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            username, null, null);
+                            claims.getSubject(), null,
+                            RoleAuthorities.fromClaim(claims.get(JwtTokenProvider.ROLES_CLAIM, String.class)));
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -72,16 +80,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
-    private boolean isSwaggerOrPublicEndpoint(String path) {
-        return path.contains("/swagger-ui") || 
-               path.contains("/v3/api-docs") || 
-               path.contains("/swagger-resources") ||
-               path.contains("/api-docs") ||
-               path.contains("/webjars") ||
-               path.contains("/login") ||
-               path.contains("/v1/auth");
+    // Signature checks dominate the filter's cost, so they get their own span
+    private Claims verify(String jwt) {
+        Span span = tracer.nextSpan().name("jwt verify").start();
+        try {
+            Claims claims = tokenProvider.parseClaims(jwt);
+            span.tag("jwt.valid", Boolean.toString(claims != null));
+            return claims;
+        } finally {
+            span.end();
+        }
     }
-    
+
     private boolean isBrowserRequest(HttpServletRequest request) {
         String acceptHeader = request.getHeader("Accept");
         return acceptHeader != null && acceptHeader.contains("text/html");
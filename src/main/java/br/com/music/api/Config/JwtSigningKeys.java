@@ -0,0 +1,205 @@
+package br.com.music.api.Config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.util.Base64URL;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keys used to sign and verify JWTs.
+ * <p>
+ * With {@code jwt.signing.algorithm=HS256} (default) tokens keep using the shared {@code jwt.secret}.
+ * With {@code ES256} or {@code EdDSA} tokens are signed with the private key of the active key id
+ * ({@code kid} header) and the public keys are published as a JWKS, so edge proxies can verify
+ * tokens offline.
+ * <p>
+ * Keys are read from {@code jwt.signing.key-dir}: {@code <kid>.pub} (X.509 PEM) for every key that
+ * must still verify, plus {@code <kid>.key} (PKCS#8 PEM) for the active one. To rotate, add the new
+ * pair, point {@code jwt.signing.active-kid} at it and remove the old {@code .pub} once the longest
+ * token lifetime (refresh expiration) has passed. Without a directory an ephemeral key pair is
+ * generated, which only suits single-instance development setups.
+ */
+@Component
+public class JwtSigningKeys {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtSigningKeys.class);
+
+    public enum Algorithm { HS256, ES256, EdDSA }
+
+    private final Algorithm algorithm;
+    private final Key signingKey;
+    private final String activeKeyId;
+    private final Map<String, PublicKey> verificationKeys;
+    private final Map<String, Object> jwks;
+
+    public JwtSigningKeys(
+            @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationAndValidationPurposesOnly12345678}") String jwtSecret,
+            @Value("${jwt.signing.algorithm:HS256}") Algorithm algorithm,
+            @Value("${jwt.signing.key-dir:}") String keyDir,
+            @Value("${jwt.signing.active-kid:}") String activeKid) {
+        this.algorithm = algorithm;
+
+        if (algorithm == Algorithm.HS256) {
+            this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+            this.activeKeyId = null;
+            this.verificationKeys = Collections.emptyMap();
+        } else if (StringUtils.hasText(keyDir)) {
+            this.verificationKeys = loadPublicKeys(Path.of(keyDir));
+            if (!verificationKeys.containsKey(activeKid)) {
+                throw new IllegalStateException("jwt.signing.active-kid '" + activeKid
+                        + "' has no matching " + activeKid + ".pub in " + keyDir);
+            }
+            this.signingKey = loadPrivateKey(Path.of(keyDir).resolve(activeKid + ".key"));
+            this.activeKeyId = activeKid;
+        } else {
+            KeyPair pair = generateKeyPair();
+            this.activeKeyId = StringUtils.hasText(activeKid) ? activeKid : UUID.randomUUID().toString();
+            this.signingKey = pair.getPrivate();
+            this.verificationKeys = Map.of(activeKeyId, pair.getPublic());
+            log.warn("No jwt.signing.key-dir configured; using an ephemeral {} key '{}'. "
+                    + "Tokens will not survive a restart nor validate on other instances.", algorithm, activeKeyId);
+        }
+        this.jwks = buildJwks();
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /** Key id written to the token header, or {@code null} for HMAC tokens. */
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * Resolves the key that verifies a token with the given {@code kid}. HMAC tokens carry no
+     * key id; asymmetric tokens must name a published key.
+     */
+    public Key getVerificationKey(String keyId) {
+        if (algorithm == Algorithm.HS256) {
+            return signingKey;
+        }
+        return keyId == null ? null : verificationKeys.get(keyId);
+    }
+
+    /** Public JWK Set, computed once at startup. Empty for HMAC since the secret is never published. */
+    public Map<String, Object> getJwks() {
+        return jwks;
+    }
+
+    private Map<String, Object> buildJwks() {
+        List<JWK> keys = new ArrayList<>();
+        verificationKeys.forEach((kid, key) -> keys.add(toJwk(kid, key)));
+        return Collections.unmodifiableMap(new LinkedHashMap<>(new JWKSet(keys).toJSONObject()));
+    }
+
+    private JWK toJwk(String kid, PublicKey key) {
+        if (key instanceof ECPublicKey ecKey) {
+            return new ECKey.Builder(Curve.P_256, ecKey)
+                    .keyID(kid)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.ES256)
+                    .build();
+        }
+        // X.509 SubjectPublicKeyInfo for Ed25519 ends with the 32-byte raw public key
+        byte[] encoded = key.getEncoded();
+        byte[] raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+        return new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(raw))
+                .keyID(kid)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.EdDSA)
+                .build();
+    }
+
+    private KeyPair generateKeyPair() {
+        try {
+            if (algorithm == Algorithm.ES256) {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            }
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not generate " + algorithm + " key pair", e);
+        }
+    }
+
+    private Map<String, PublicKey> loadPublicKeys(Path dir) {
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.pub")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String kid = name.substring(0, name.length() - ".pub".length());
+                keys.put(kid, keyFactory().generatePublic(new X509EncodedKeySpec(readPem(file))));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JWT keys from " + dir, e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT public key in " + dir, e);
+        }
+        return keys;
+    }
+
+    private PrivateKey loadPrivateKey(Path file) {
+        try {
+            return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(readPem(file)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JWT private key " + file, e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT private key " + file, e);
+        }
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm == Algorithm.ES256 ? "EC" : "Ed25519");
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        StringBuilder base64 = new StringBuilder();
+        for (String line : Files.readAllLines(file)) {
+            if (!line.startsWith("-----")) {
+                base64.append(line.trim());
+            }
+        }
+        return Base64.getDecoder().decode(base64.toString());
+    }
+}
@@ -1,19 +1,30 @@
 package br.com.music.api.Config;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationAndValidationPurposesOnly12345678}")
-    private String jwtSecret;
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TYPE_CLAIM = "type";
+    public static final String FAMILY_CLAIM = "fam";
+    public static final String REFRESH_TYPE = "refresh";
+
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
 
     @Value("${jwt.expiration:300000}") // Default: 5 minutes
     private long jwtExpirationMs;
@@ -21,94 +32,127 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh.expiration:604800000}") // Default: 7 days
     private long jwtRefreshExpirationMs;
 
-    public String generateToken(Authentication authentication) {
-        String username = authentication.getName();
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
+    private final JwtSigningKeys signingKeys;
+    private final JwtParser parser;
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // One timer per outcome of parseClaims, so counts by failure reason come with the latencies
+    private final Timer validTimer;
+    private final Timer expiredTimer;
+    private final Timer malformedTimer;
+    private final Timer unsupportedTimer;
+    private final Timer invalidSignatureTimer;
+    private final Timer emptyTimer;
 
-        return Jwts.builder()
-                .subject(username)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(key)
-                .compact();
+    public JwtTokenProvider(JwtSigningKeys signingKeys) {
+        this(signingKeys, Metrics.globalRegistry);
     }
 
-    public String generateTokenFromUsername(String username) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
+    @Autowired
+    public JwtTokenProvider(JwtSigningKeys signingKeys, MeterRegistry meterRegistry) {
+        this.signingKeys = signingKeys;
+        this.parser = Jwts.parser()
+                .keyLocator(header -> signingKeys.getVerificationKey(
+                        header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null))
+                .build();
+        this.validTimer = validationTimer(meterRegistry, "valid");
+        this.expiredTimer = validationTimer(meterRegistry, "expired");
+        this.malformedTimer = validationTimer(meterRegistry, "malformed");
+        this.unsupportedTimer = validationTimer(meterRegistry, "unsupported");
+        this.invalidSignatureTimer = validationTimer(meterRegistry, "invalid_signature");
+        this.emptyTimer = validationTimer(meterRegistry, "empty");
+    }
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private static Timer validationTimer(MeterRegistry registry, String result) {
+        return Timer.builder("jwt.validation")
+                .description("Access and refresh token verifications")
+                .tag("result", result)
+                .register(registry);
+    }
 
-        return Jwts.builder()
-                .subject(username)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(key)
-                .compact();
+    public String generateToken(Authentication authentication) {
+        return generateTokenFromUsername(authentication.getName(),
+                RoleAuthorities.toClaim(authentication.getAuthorities()));
     }
 
-    public String generateRefreshToken(Authentication authentication) {
-        String username = authentication.getName();
+    public String generateTokenFromUsername(String username, String roles) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtRefreshExpirationMs);
-
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
+                .header().keyId(signingKeys.getActiveKeyId()).and()
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .claim("type", "refresh")
-                .signWith(key)
+                .claim(ROLES_CLAIM, roles)
+                .signWith(signingKeys.getSigningKey())
                 .compact();
     }
 
-    public String generateRefreshTokenFromUsername(String username) {
+    public String generateRefreshToken(Authentication authentication, String familyId) {
+        return generateRefreshTokenFromUsername(authentication.getName(),
+                RoleAuthorities.toClaim(authentication.getAuthorities()), familyId);
+    }
+
+    public String generateRefreshTokenFromUsername(String username, String roles, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtRefreshExpirationMs);
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-
         return Jwts.builder()
+                .header().keyId(signingKeys.getActiveKeyId()).and()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .claim("type", "refresh")
-                .signWith(key)
+                .claim(TYPE_CLAIM, REFRESH_TYPE)
+                .claim(FAMILY_CLAIM, familyId)
+                .claim(ROLES_CLAIM, roles)
+                .signWith(signingKeys.getSigningKey())
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    public Duration getRefreshExpiration() {
+        return Duration.ofMillis(jwtRefreshExpirationMs);
+    }
 
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
+    public String getUsernameFromToken(String token) {
+        return parser.parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the token and returns its claims in a single parse, or {@code null} when the
+     * token is invalid or expired.
+     */
+    public Claims parseClaims(String token) {
+        long start = System.nanoTime();
+        Timer outcome;
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            validTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return claims;
         } catch (MalformedJwtException ex) {
-            System.err.println("Invalid JWT token: {}" + ex);
+            outcome = malformedTimer;
+            log.debug("Malformed JWT token: {}", ex.getMessage());
         } catch (ExpiredJwtException ex) {
-            System.err.println("Expired JWT token: {}" + ex);
+            outcome = expiredTimer;
+            log.debug("Expired JWT token: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
-            System.err.println("Unsupported JWT token: {}" + ex);
+            outcome = unsupportedTimer;
+            log.debug("Unsupported JWT token: {}", ex.getMessage());
+        } catch (JwtException ex) {
+            outcome = invalidSignatureTimer;
+            // Tokens signed with a retired or foreign key; worth seeing, unlike expiry
+            log.warn("Invalid JWT signature: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
-            System.err.println("JWT claims string is empty: {}" + ex);
+            outcome = emptyTimer;
+            log.debug("Empty JWT token: {}", ex.getMessage());
         }
-        return false;
+        outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return null;
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
     }
 }
@@ -0,0 +1,196 @@
+package br.com.music.api.Config;
+
+import br.com.music.api.Services.CatalogVersions;
+import br.com.music.api.util.TtlCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response cache for catalogue GETs ({@code /v1/<resource>} and {@code /v1/<resource>/<id>}).
+ * <p>
+ * Each route depends on a set of tables; their {@link CatalogVersions} tag is the strong ETag of
+ * the response, so {@code If-None-Match} is answered with 304 before the controller runs. On a
+ * 200 the JSON is stored as serialized bytes together with a gzip copy compressed once, and
+ * served as is while the tag is unchanged.
+ * <p>
+ * The tag also carries the current TTL window, so neither a 304 nor a cached body outlives the
+ * TTL: if a bump from another instance is lost, this instance is stale for at most one window.
+ */
+public class ListingResponseCacheFilter extends OncePerRequestFilter {
+
+    record CachedResponse(String version, String contentType, byte[] identity, byte[] gzip) {}
+
+    private static final String GZIP_SUFFIX = "-gzip";
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final Map<String, CatalogVersions.Table[]> routes;
+    private final CatalogVersions versions;
+    private final int minCompressSize;
+    private final TtlCache<String, CachedResponse> cache;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    public ListingResponseCacheFilter(Map<String, CatalogVersions.Table[]> routes, CatalogVersions versions,
+                                      int minCompressSize, long ttlMillis, int maxEntries) {
+        this(routes, versions, minCompressSize, ttlMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    ListingResponseCacheFilter(Map<String, CatalogVersions.Table[]> routes, CatalogVersions versions,
+                               int minCompressSize, long ttlMillis, int maxEntries, LongSupplier clock) {
+        this.routes = routes;
+        this.versions = versions;
+        this.minCompressSize = minCompressSize;
+        this.cache = new TtlCache<>(ttlMillis, maxEntries);
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String route = "GET".equals(request.getMethod()) ? route(path) : null;
+        // Map.of() rejects null keys
+        CatalogVersions.Table[] tables = route == null ? null : routes.get(route);
+        if (tables == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Read before the controller runs: a write committed meanwhile only makes the entry older than its tag
+        String version = versions.tag(tables) + "." + Long.toString(clock.getAsLong() / ttlMillis, 36);
+        boolean gzip = acceptsGzip(request);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), version)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag(version, gzip));
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return;
+        }
+
+        String key = key(path, request.getParameterMap());
+        CachedResponse cached = cache.get(key);
+        if (cached != null && cached.version().equals(version)) {
+            write(cached, gzip, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || contentType == null
+                || !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        CachedResponse entry = new CachedResponse(version, contentType, body,
+                body.length >= minCompressSize ? gzip(body) : null);
+        cache.put(key, entry);
+        write(entry, gzip, response);
+    }
+
+    // "/v1/albuns", "/v1/albuns?..." and "/v1/albuns/42" share the route "/v1/albuns"; deeper paths are not cached
+    static String route(String path) {
+        if (!path.startsWith("/v1/")) {
+            return null;
+        }
+        int slash = path.indexOf('/', 4);
+        if (slash < 0) {
+            return path;
+        }
+        for (int i = slash + 1; i < path.length(); i++) {
+            if (!Character.isDigit(path.charAt(i))) {
+                return null;
+            }
+        }
+        return slash + 1 < path.length() ? path.substring(0, slash) : null;
+    }
+
+    // Parameters sorted by name and value, so ?size=20&page=0 and ?page=0&size=20 share an entry
+    static String key(String path, Map<String, String[]> parameters) {
+        if (parameters.isEmpty()) {
+            return path;
+        }
+        StringBuilder key = new StringBuilder(path).append('?');
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(parameters).entrySet()) {
+            String[] values = parameter.getValue().clone();
+            Arrays.sort(values);
+            for (String value : values) {
+                key.append(parameter.getKey()).append('=').append(value).append('&');
+            }
+        }
+        return key.toString();
+    }
+
+    // Same data in either encoding, so both variants of the tag are accepted
+    static boolean matches(String ifNoneMatch, String version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag(version, false)) || tag.equals(etag(version, true))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String etag(String version, boolean gzip) {
+        return "\"" + version + (gzip ? GZIP_SUFFIX : "") + "\"";
+    }
+
+    private static void write(CachedResponse entry, boolean acceptsGzip, HttpServletResponse response)
+            throws IOException {
+        boolean gzip = acceptsGzip && entry.gzip() != null;
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        response.setHeader(HttpHeaders.ETAG, etag(entry.version(), gzip));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = entry.identity();
+        if (gzip) {
+            // Tomcat leaves responses that already carry a Content-Encoding alone
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = entry.gzip();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        // Compressed once per entry, so the slowest level is worth it
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
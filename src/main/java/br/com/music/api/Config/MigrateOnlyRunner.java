@@ -0,0 +1,63 @@
+package br.com.music.api.Config;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns the application into a one-shot migration job when {@code app.migrate-only=true}: Liquibase
+ * applies the changelogs while the context starts and the process exits right after, before serving
+ * traffic. App instances started after the job can then run with {@code spring.liquibase.enabled=false}.
+ * <p>
+ * {@link WithoutWebServer} creates that context without a web server, and the background components
+ * (Redis listeners, change feed poller) do not auto-start, so the job needs only the database.
+ * AOT-processed builds freeze the web application type; there the web server starts and this runner
+ * exits right after. A runtime check rather than a {@code @Profile}, so it keeps working on those builds.
+ */
+@Component
+public class MigrateOnlyRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MigrateOnlyRunner.class);
+
+    private final ConfigurableApplicationContext context;
+    private final boolean migrateOnly;
+
+    public MigrateOnlyRunner(ConfigurableApplicationContext context,
+                             @Value("${app.migrate-only:false}") boolean migrateOnly) {
+        this.context = context;
+        this.migrateOnly = migrateOnly;
+    }
+
+    /** Registered in {@code main}, before the context is created. */
+    public static final class WithoutWebServer implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+        @Override
+        public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+            ConfigurableEnvironment environment = event.getEnvironment();
+            if (environment.getProperty("app.migrate-only", Boolean.class, false) && !AotDetector.useGeneratedArtifacts()) {
+                environment.getPropertySources().addFirst(
+                        new MapPropertySource("migrateOnly", Map.of("spring.main.web-application-type", "none")));
+            }
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migrateOnly) {
+            log.info("Migrations applied, exiting (app.migrate-only=true)");
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
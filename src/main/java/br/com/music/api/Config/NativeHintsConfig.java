@@ -0,0 +1,148 @@
+package br.com.music.api.Config;
+
+import br.com.music.api.Controller.dto.AlbumDto;
+import br.com.music.api.Controller.dto.ArtistaAlbumDto;
+import br.com.music.api.Controller.dto.ArtistaDto;
+import br.com.music.api.Controller.dto.CatalogChangeDto;
+import br.com.music.api.Domain.Album;
+import br.com.music.api.Domain.AlbumImagem;
+import br.com.music.api.Domain.ApiKey;
+import br.com.music.api.Domain.Artista;
+import br.com.music.api.Domain.ArtistaAlbum;
+import br.com.music.api.Domain.Enums.StatusImportacao;
+import br.com.music.api.Domain.Enums.TipoArtista;
+import br.com.music.api.Domain.ImportJob;
+import br.com.music.api.Domain.Regional;
+import br.com.music.api.Domain.User;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image ({@code ./mvnw -Pnative native:compile}): what the
+ * application and its libraries reach through reflection, proxies or classpath resources and the
+ * AOT engine cannot infer from the bean definitions. Ignored on the JVM.
+ * <p>
+ * The DTOs are built by Hibernate from JPQL constructor expressions and read by Jackson in the
+ * bulk import, and the change feed serializes its events itself, so they need binding hints on top of
+ * what Spring registers for controller payloads.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+@RegisterReflectionForBinding({AlbumDto.class, ArtistaDto.class, ArtistaAlbumDto.class, CatalogChangeDto.class})
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final MemberCategory[] ALL_DECLARED = {
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS
+        };
+
+        // Loaded by name through io.jsonwebtoken.lang.Classes, invisible to static analysis
+        private static final List<String> JJWT_IMPL = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardCurves",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        // datasource-proxy (query inspector, JDBC tracing) wraps each of these in a JDK proxy that also
+        // implements ProxyJdbcObject, listed first as in its JdkJdbcProxyFactory
+        private static final List<Class<?>> PROXIED_JDBC = List.of(
+                Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class);
+
+        // simple-xml instantiates one label per annotated MinIO message field through these constructors
+        private static final List<String> SIMPLE_XML_LABELS = List.of(
+                "org.simpleframework.xml.core.AttributeLabel",
+                "org.simpleframework.xml.core.ElementLabel",
+                "org.simpleframework.xml.core.ElementArrayLabel",
+                "org.simpleframework.xml.core.ElementListLabel",
+                "org.simpleframework.xml.core.ElementMapLabel",
+                "org.simpleframework.xml.core.ElementUnionLabel",
+                "org.simpleframework.xml.core.ElementListUnionLabel",
+                "org.simpleframework.xml.core.ElementMapUnionLabel",
+                "org.simpleframework.xml.core.TextLabel",
+                "org.simpleframework.xml.core.VersionLabel");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : List.of(Album.class, AlbumImagem.class, ApiKey.class, Artista.class,
+                    ArtistaAlbum.class, ImportJob.class, Regional.class, User.class)) {
+                hints.reflection().registerType(entity, ALL_DECLARED);
+            }
+            for (Class<?> enumType : List.of(TipoArtista.class, StatusImportacao.class)) {
+                hints.reflection().registerType(enumType, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // BoundedDataSource hands out permit-releasing connection proxies
+            hints.proxies().registerJdkProxy(Connection.class);
+            for (Class<?> jdbcType : PROXIED_JDBC) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+            }
+
+            for (String type : JJWT_IMPL) {
+                hints.reflection().registerType(TypeReference.of(type), ALL_DECLARED);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            for (String type : minioMessageTypes(classLoader)) {
+                hints.reflection().registerType(TypeReference.of(type), ALL_DECLARED);
+            }
+            for (String type : SIMPLE_XML_LABELS) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+            for (String annotation : List.of("Attribute", "Element", "ElementArray", "ElementList", "ElementMap")) {
+                hints.proxies().registerJdkProxy(TypeReference.of("org.simpleframework.xml." + annotation));
+            }
+            hints.resources().registerPattern("okhttp3/internal/publicsuffix/publicsuffixes.gz");
+
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+            hints.resources().registerPattern("db/changelog/**");
+            hints.resources().registerPattern("templates/*.html");
+        }
+
+        // The request and response bodies of the S3 API, mapped by simple-xml through reflection
+        static List<String> minioMessageTypes(ClassLoader classLoader) {
+            try {
+                Resource[] classes = new PathMatchingResourcePatternResolver(classLoader)
+                        .getResources("classpath*:io/minio/messages/*.class");
+                return Arrays.stream(classes)
+                        .map(Resource::getFilename)
+                        .filter(name -> name != null && !name.equals("package-info.class"))
+                        .map(name -> "io.minio.messages." + name.substring(0, name.length() - ".class".length()))
+                        .sorted()
+                        .toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not list the MinIO message types", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.music.api.Config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+
+/**
+ * Endpoints that do not require authentication, shared by {@link SecurityConfig} and
+ * {@link JwtAuthenticationFilter} so both always agree on the same list.
+ * <p>
+ * Paths are relative to the servlet context path and compiled into a character trie, so a
+ * lookup is a single pass over the request URI with no allocation and no substring scans.
+ */
+public final class PublicPaths implements RequestMatcher {
+
+    private final Node root = new Node();
+
+    private PublicPaths() {
+    }
+
+    public static PublicPaths defaults() {
+        return new PublicPaths()
+                // Swagger UI and OpenAPI documentation
+                .segment("/swagger-ui")
+                .exact("/swagger-ui.html")
+                .prefix("/v3/api-docs")
+                .prefix("/swagger-resources")
+                .segment("/webjars")
+                // Static resources
+                .segment("/static")
+                .segment("/css")
+                .segment("/js")
+                .segment("/images")
+                // Root, authentication and login page
+                .exact("/")
+                .exact("/login")
+                .segment("/v1/auth")
+                // Public keys used by edge proxies to verify tokens offline
+                .exact("/.well-known/jwks.json")
+                // WebSocket handshake; STOMP CONNECT carries the token (StompAuthenticationInterceptor)
+                .exact("/ws")
+                // Probes; the Prometheus scrape needs METRICS and other actuator endpoints ADMIN
+                .segment("/actuator/health");
+    }
+
+    /** Matches the path itself only. */
+    public PublicPaths exact(String path) {
+        insert(path).exact = true;
+        return this;
+    }
+
+    /** Matches the path and everything below it, like the ant pattern {@code /path/**}. */
+    public PublicPaths segment(String path) {
+        insert(path).segment = true;
+        return this;
+    }
+
+    /** Matches any path starting with the given characters, like {@code /path**}. */
+    public PublicPaths prefix(String path) {
+        insert(path).prefix = true;
+        return this;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath == null || contextPath.isEmpty()) {
+            return matches(uri, 0);
+        }
+        return uri.startsWith(contextPath) && matches(uri, contextPath.length());
+    }
+
+    /**
+     * Matches {@code uri} starting at {@code offset}, which lets callers skip the context path
+     * without allocating a substring.
+     */
+    public boolean matches(String uri, int offset) {
+        Node node = root;
+        int length = uri.length();
+        for (int i = offset; ; i++) {
+            if (node.prefix) {
+                return true;
+            }
+            if (i == length) {
+                return node.exact || node.segment;
+            }
+            char c = uri.charAt(i);
+            if (node.segment && c == '/') {
+                return true;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return false;
+            }
+        }
+    }
+
+    private Node insert(String path) {
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.childOrCreate(path.charAt(i));
+        }
+        return node;
+    }
+
+    private static final class Node {
+        // Fan-out is tiny for URL paths, so parallel arrays beat a map here
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean exact;
+        private boolean segment;
+        private boolean prefix;
+
+        Node child(char c) {
+            char[] k = keys;
+            for (int i = 0; i < k.length; i++) {
+                if (k[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childOrCreate(char c) {
+            Node existing = child(c);
+            if (existing != null) {
+                return existing;
+            }
+            Node created = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = c;
+            children[children.length - 1] = created;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.music.api.Config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Counts the statements of each request through {@link QueryInspector}. Every request feeds the
+ * {@code db.queries} summary per route and is checked for repeated SELECTs (possible N+1); a
+ * sample of requests also logs its statements, in place of {@code spring.jpa.show-sql}.
+ * <p>
+ * The counts are left in the {@link #ATTRIBUTE} request attribute so tests can assert a query
+ * budget per endpoint.
+ */
+public class QueryInspectionFilter extends OncePerRequestFilter {
+
+    public static final String ATTRIBUTE = QueryInspectionFilter.class.getName() + ".queries";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryInspectionFilter.class);
+
+    private final MeterRegistry registry;
+    private final int repeatThreshold;
+    private final double sampleRate;
+
+    public QueryInspectionFilter(MeterRegistry registry, int repeatThreshold, double sampleRate) {
+        this.registry = registry;
+        this.repeatThreshold = repeatThreshold;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        QueryInspector.RequestQueries queries = QueryInspector.begin(sampled);
+        request.setAttribute(ATTRIBUTE, queries);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryInspector.end();
+            report(request, queries);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryInspector.RequestQueries queries) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("db.queries")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(queries.count());
+
+        if (queries.count() == 0) {
+            return;
+        }
+        for (Map.Entry<String, Integer> repeated : queries.repeatedSelects(repeatThreshold).entrySet()) {
+            log.warn("Possible N+1 in {} {}: {} executed {} times", request.getMethod(), uri,
+                    repeated.getKey(), repeated.getValue());
+        }
+        if (queries.sampled()) {
+            StringBuilder statements = new StringBuilder();
+            queries.byShape().forEach((shape, times) -> statements.append("\n  ").append(times).append("x ").append(shape));
+            log.info("{} {}: {} statements in {}ms{}", request.getMethod(), request.getRequestURI(),
+                    queries.count(), queries.elapsedMillis(), statements);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.music.api.Config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * datasource-proxy listener that logs statements slower than a threshold and counts the
+ * statements run by the current request, grouped by shape (whitespace collapsed, literals
+ * replaced by {@code ?}). A shape repeated many times in one request is the N+1 signature: the
+ * same SELECT issued once per row with only the id changing.
+ * <p>
+ * Counting only happens between {@link #begin} and {@link #end} on the same thread, which
+ * {@link QueryInspectionFilter} does per request; work handed to other threads is not counted.
+ */
+public class QueryInspector implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryInspector.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+    private static final ThreadLocal<RequestQueries> CURRENT = new ThreadLocal<>();
+
+    /** Statements run by one request. Only touched by the request's own thread. */
+    public static final class RequestQueries {
+
+        private final boolean sampled;
+        private final Map<String, Integer> byShape = new LinkedHashMap<>();
+        private int count;
+        private long elapsedMs;
+
+        RequestQueries(boolean sampled) {
+            this.sampled = sampled;
+        }
+
+        void record(String shape, long elapsed) {
+            count++;
+            elapsedMs += elapsed;
+            byShape.merge(shape, 1, Integer::sum);
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long elapsedMillis() {
+            return elapsedMs;
+        }
+
+        public boolean sampled() {
+            return sampled;
+        }
+
+        /** Statement shapes in execution order with how many times each ran. */
+        public Map<String, Integer> byShape() {
+            return Collections.unmodifiableMap(byShape);
+        }
+
+        /** SELECT shapes run at least {@code threshold} times. */
+        public Map<String, Integer> repeatedSelects(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            byShape.forEach((shape, times) -> {
+                if (times >= threshold && shape.regionMatches(true, 0, "select", 0, 6)) {
+                    repeated.put(shape, times);
+                }
+            });
+            return repeated;
+        }
+    }
+
+    private final long slowQueryThresholdMs;
+
+    public QueryInspector(long slowQueryThresholdMs) {
+        this.slowQueryThresholdMs = slowQueryThresholdMs;
+    }
+
+    public static RequestQueries begin(boolean sampled) {
+        RequestQueries queries = new RequestQueries(sampled);
+        CURRENT.set(queries);
+        return queries;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueries current = CURRENT.get();
+        long elapsed = execInfo.getElapsedTime();
+        boolean slow = elapsed >= slowQueryThresholdMs;
+        if (current == null && !slow) {
+            return;
+        }
+        for (QueryInfo query : queryInfoList) {
+            String shape = shape(query.getQuery());
+            if (current != null) {
+                current.record(shape, elapsed);
+            }
+            if (slow) {
+                log.warn("Slow query ({}ms{}): {}", elapsed, execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "", shape);
+            }
+        }
+    }
+
+    // Hibernate binds parameters, so this mostly collapses whitespace; literals matter for native SQL
+    static String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        return NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    }
+}
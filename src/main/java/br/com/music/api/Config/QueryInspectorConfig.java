@@ -0,0 +1,55 @@
+package br.com.music.api.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wires {@link QueryInspector} around the application DataSource and
+ * {@link QueryInspectionFilter} around every request.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.query-inspector.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInspectorConfig {
+
+    // Static so wrapping the DataSource does not force early initialization of this class
+    @Bean
+    static BeanPostProcessor queryInspectorPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    Duration threshold = environment.getProperty("app.query-inspector.slow-query-threshold",
+                            Duration.class, Duration.ofMillis(200));
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-inspector")
+                            .listener(new QueryInspector(threshold.toMillis()))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryInspectionFilter> queryInspectionFilter(
+            MeterRegistry registry,
+            @Value("${app.query-inspector.n-plus-one-threshold:5}") int repeatThreshold,
+            @Value("${app.query-inspector.sample-rate:0.01}") double sampleRate) {
+        FilterRegistrationBean<QueryInspectionFilter> registration = new FilterRegistrationBean<>(
+                new QueryInspectionFilter(registry, repeatThreshold, sampleRate));
+        // Before Spring Security, so statements run while authenticating (API key lookups) are counted too
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
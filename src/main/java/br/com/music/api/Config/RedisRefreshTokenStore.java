@@ -0,0 +1,124 @@
+package br.com.music.api.Config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "auth.refresh-store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    // Hash with the current token hash and the roles claim of the family
+    private static final String KEY_PREFIX = "auth:family:";
+    // Hash of the token rotated last, expiring with the grace window
+    private static final String PREVIOUS_SUFFIX = ":prev";
+    // Set of the user's family ids, for role changes and revocation
+    private static final String USER_PREFIX = "auth:user-families:";
+
+    // Compare-and-swap in one round trip: {1, roles} = rotated, {3} = rotated within the grace
+    // window, {2} = reuse (family deleted), {0} = unknown
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'token')
+            if not current then return {0} end
+            if current == ARGV[1] then
+              redis.call('HSET', KEYS[1], 'token', ARGV[2])
+              redis.call('PEXPIRE', KEYS[1], ARGV[3])
+              redis.call('PEXPIRE', KEYS[3], ARGV[3])
+              if tonumber(ARGV[4]) > 0 then
+                redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[4])
+              else
+                redis.call('DEL', KEYS[2])
+              end
+              return {1, redis.call('HGET', KEYS[1], 'roles')}
+            end
+            if redis.call('GET', KEYS[2]) == ARGV[1] then return {3} end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('SREM', KEYS[3], ARGV[5])
+            return {2}
+            """, List.class);
+
+    private static final RedisScript<Long> REGISTER = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'token', ARGV[1], 'roles', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // HSET only on a live family, so an expired one is not recreated without a TTL
+    private static final RedisScript<Long> UPDATE_ROLES = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('HSET', KEYS[1], 'roles', ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    @Override
+    public void register(String familyId, String username, String tokenHash, String roles, Duration ttl) {
+        redis.execute(REGISTER, List.of(KEY_PREFIX + familyId, USER_PREFIX + username),
+                tokenHash, roles, String.valueOf(ttl.toMillis()), familyId);
+    }
+
+    @Override
+    public Rotation rotate(String familyId, String username, String presentedHash, String newHash, Duration ttl,
+                           Duration grace) {
+        List<?> result = redis.execute(ROTATE,
+                List.of(KEY_PREFIX + familyId, KEY_PREFIX + familyId + PREVIOUS_SUFFIX, USER_PREFIX + username),
+                presentedHash, newHash, String.valueOf(ttl.toMillis()), String.valueOf(grace.toMillis()), familyId);
+        long code = result == null || result.isEmpty() ? 0L : ((Number) result.get(0)).longValue();
+        if (code == 1L) {
+            return new Rotation(Result.ROTATED, result.size() > 1 ? Objects.toString(result.get(1), "") : "");
+        }
+        if (code == 3L) {
+            return Rotation.of(Result.ALREADY_ROTATED);
+        }
+        return Rotation.of(code == 2L ? Result.REUSED : Result.UNKNOWN);
+    }
+
+    @Override
+    public void updateRoles(String username, String roles) {
+        Set<String> families = redis.opsForSet().members(USER_PREFIX + username);
+        if (families == null) {
+            return;
+        }
+        for (String familyId : families) {
+            Long updated = redis.execute(UPDATE_ROLES, List.of(KEY_PREFIX + familyId), roles);
+            if (updated == null || updated == 0L) {
+                redis.opsForSet().remove(USER_PREFIX + username, familyId);
+            }
+        }
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        redis.delete(List.of(KEY_PREFIX + familyId, KEY_PREFIX + familyId + PREVIOUS_SUFFIX));
+    }
+
+    @Override
+    public void revokeAll(String username) {
+        Set<String> families = redis.opsForSet().members(USER_PREFIX + username);
+        List<String> keys = new ArrayList<>();
+        keys.add(USER_PREFIX + username);
+        if (families != null) {
+            for (String familyId : families) {
+                keys.add(KEY_PREFIX + familyId);
+                keys.add(KEY_PREFIX + familyId + PREVIOUS_SUFFIX);
+            }
+        }
+        redis.delete(keys);
+    }
+}
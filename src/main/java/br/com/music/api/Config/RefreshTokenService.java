@@ -0,0 +1,114 @@
+package br.com.music.api.Config;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens. Every login starts a token family; each refresh replaces the
+ * family's current token and replaying an older one revokes the whole family, except within
+ * {@code auth.refresh-grace} of its rotation, when it is answered with
+ * {@link RefreshTokenStore.Result#ALREADY_ROTATED} and the client retries with the token the
+ * concurrent refresh returned.
+ * <p>
+ * The family keeps the roles it was issued with, so a refresh is a single store lookup. Changing
+ * a user's roles goes through {@link #rolesChanged} and deactivating a user through
+ * {@link #revokeAll}; either takes effect within one access token lifetime.
+ */
+@Service
+public class RefreshTokenService {
+
+    public record IssuedTokens(String accessToken, String refreshToken, String username) {}
+
+    /** Outcome of {@link #refresh}; {@code tokens} is set only when {@code result} is ROTATED. */
+    public record Refresh(RefreshTokenStore.Result result, IssuedTokens tokens) {}
+
+    private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenStore store;
+    private final Duration grace;
+
+    public RefreshTokenService(JwtTokenProvider tokenProvider, RefreshTokenStore store,
+                               @Value("${auth.refresh-grace:10s}") Duration grace) {
+        this.tokenProvider = tokenProvider;
+        this.store = store;
+        this.grace = grace;
+    }
+
+    public IssuedTokens issue(Authentication authentication) {
+        String familyId = UUID.randomUUID().toString();
+        String accessToken = tokenProvider.generateToken(authentication);
+        String refreshToken = tokenProvider.generateRefreshToken(authentication, familyId);
+        store.register(familyId, authentication.getName(), hash(refreshToken),
+                RoleAuthorities.toClaim(authentication.getAuthorities()), tokenProvider.getRefreshExpiration());
+        return new IssuedTokens(accessToken, refreshToken, authentication.getName());
+    }
+
+    /**
+     * Rotates the token. Anything but ROTATED means no new tokens: UNKNOWN also covers an invalid
+     * token or one that is not a refresh token.
+     */
+    public Refresh refresh(String refreshToken) {
+        Claims claims = refreshClaims(refreshToken);
+        if (claims == null) {
+            return new Refresh(RefreshTokenStore.Result.UNKNOWN, null);
+        }
+
+        String familyId = claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class);
+        String username = claims.getSubject();
+        // The roles claim of a refresh token is informational; the family's roles are the ones issued
+        String newRefreshToken = tokenProvider.generateRefreshTokenFromUsername(username,
+                claims.get(JwtTokenProvider.ROLES_CLAIM, String.class), familyId);
+
+        RefreshTokenStore.Rotation rotation = store.rotate(familyId, username, hash(refreshToken),
+                hash(newRefreshToken), tokenProvider.getRefreshExpiration(), grace);
+        if (rotation.result() != RefreshTokenStore.Result.ROTATED) {
+            return new Refresh(rotation.result(), null);
+        }
+        return new Refresh(rotation.result(), new IssuedTokens(
+                tokenProvider.generateTokenFromUsername(username, rotation.roles()), newRefreshToken, username));
+    }
+
+    /** Call after changing a user's roles: the user's next refresh issues {@code roles}. */
+    public void rolesChanged(String username, String roles) {
+        store.updateRoles(username, roles);
+    }
+
+    /** Call after deactivating or removing a user: no family of theirs can be refreshed again. */
+    public void revokeAll(String username) {
+        store.revokeAll(username);
+    }
+
+    public void revoke(String refreshToken) {
+        Claims claims = refreshClaims(refreshToken);
+        if (claims != null) {
+            store.revoke(claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class));
+        }
+    }
+
+    private Claims refreshClaims(String refreshToken) {
+        Claims claims = tokenProvider.parseClaims(refreshToken);
+        if (claims == null
+                || !JwtTokenProvider.REFRESH_TYPE.equals(claims.get(JwtTokenProvider.TYPE_CLAIM, String.class))
+                || claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class) == null) {
+            return null;
+        }
+        return claims;
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.music.api.Config;
+
+import java.time.Duration;
+
+/**
+ * Records the current refresh token of every token family (one family per login), together with
+ * the roles the family's access tokens are issued with.
+ * <p>
+ * Each refresh replaces the stored hash; presenting a token that is no longer current means it
+ * was replayed, so the whole family is revoked. The exception is the token rotated last: for a
+ * short grace window it is answered with {@link Result#ALREADY_ROTATED} instead, so parallel
+ * refreshes fired by one client (several tabs, retried requests) do not look like reuse. Only
+ * token hashes are stored. Implementations must make {@link #rotate} a single atomic operation.
+ */
+public interface RefreshTokenStore {
+
+    enum Result {
+        /** The presented token was current and has been replaced. */
+        ROTATED,
+        /** The presented token was rotated within the grace window; the family is left as is. */
+        ALREADY_ROTATED,
+        /** The presented token was already rotated; the family has been revoked. */
+        REUSED,
+        /** The family is unknown, expired or revoked. */
+        UNKNOWN
+    }
+
+    /** Outcome of {@link #rotate}; {@code roles} is the family's roles claim when rotated. */
+    record Rotation(Result result, String roles) {
+
+        static Rotation of(Result result) {
+            return new Rotation(result, null);
+        }
+    }
+
+    void register(String familyId, String username, String tokenHash, String roles, Duration ttl);
+
+    /**
+     * Replaces {@code presentedHash} with {@code newHash}. The presented token is then answered
+     * with {@link Result#ALREADY_ROTATED} for {@code grace}.
+     */
+    Rotation rotate(String familyId, String username, String presentedHash, String newHash, Duration ttl, Duration grace);
+
+    /** Sets the roles of every live family of the user; the next refresh issues them. */
+    void updateRoles(String username, String roles);
+
+    void revoke(String familyId);
+
+    /** Revokes every family of the user. */
+    void revokeAll(String username);
+}
@@ -0,0 +1,40 @@
+package br.com.music.api.Config;
+
+import br.com.music.api.Services.CatalogVersions;
+import br.com.music.api.Services.CatalogVersions.Table;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class ResponseCacheConfig {
+
+    // Tables whose changes alter each cached route's responses
+    static final Map<String, Table[]> ROUTES = Map.of(
+            "/v1/albuns", new Table[] {Table.ALBUM, Table.ARTISTA_ALBUM},
+            "/v1/artistas", new Table[] {Table.ARTISTA},
+            "/v1/album-imagens", new Table[] {Table.ALBUM_IMAGEM},
+            "/v1/regionais", new Table[] {Table.REGIONAL},
+            "/v1/artistas-albuns", new Table[] {Table.ARTISTA_ALBUM, Table.ARTISTA, Table.ALBUM});
+
+    @Bean
+    @ConditionalOnProperty(name = "app.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ListingResponseCacheFilter> listingResponseCacheFilter(
+            CatalogVersions versions,
+            @Value("${app.response-cache.ttl:60s}") Duration ttl,
+            @Value("${app.response-cache.max-entries:1000}") int maxEntries,
+            @Value("${server.compression.min-response-size:2KB}") DataSize minCompressSize) {
+        FilterRegistrationBean<ListingResponseCacheFilter> registration = new FilterRegistrationBean<>(
+                new ListingResponseCacheFilter(ROUTES, versions, (int) minCompressSize.toBytes(), ttl.toMillis(), maxEntries));
+        // After Spring Security, so cached responses are still only served to authenticated callers
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
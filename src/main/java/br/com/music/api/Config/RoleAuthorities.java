@@ -0,0 +1,71 @@
+package br.com.music.api.Config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts between the compact role list stored in {@code User.roles} / the JWT "roles" claim
+ * (e.g. "ADMIN,USER") and Spring Security authorities.
+ * <p>
+ * Decoded sets are cached per claim value and every authority instance is interned, so
+ * authenticating a request never allocates new authority objects nor touches the database.
+ */
+public final class RoleAuthorities {
+
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    // Role combinations are few; the cap only protects against unexpected claim values
+    private static final int MAX_CACHED_CLAIMS = 256;
+
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+    private static final Map<String, Set<GrantedAuthority>> CLAIMS = new ConcurrentHashMap<>();
+
+    private RoleAuthorities() {
+    }
+
+    public static Set<GrantedAuthority> fromClaim(String roles) {
+        if (roles == null || roles.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<GrantedAuthority> cached = CLAIMS.get(roles);
+        if (cached != null) {
+            return cached;
+        }
+
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+        for (String role : roles.split(",")) {
+            String name = role.trim();
+            if (!name.isEmpty()) {
+                authorities.add(AUTHORITIES.computeIfAbsent(name,
+                        r -> new SimpleGrantedAuthority(ROLE_PREFIX + r)));
+            }
+        }
+        Set<GrantedAuthority> result = Collections.unmodifiableSet(authorities);
+        if (CLAIMS.size() < MAX_CACHED_CLAIMS) {
+            CLAIMS.putIfAbsent(roles, result);
+        }
+        return result;
+    }
+
+    public static String toClaim(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null || authorities.isEmpty()) {
+            return "";
+        }
+        Set<String> roles = new TreeSet<>();
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith(ROLE_PREFIX)) {
+                roles.add(name.substring(ROLE_PREFIX.length()));
+            }
+        }
+        return String.join(",", roles);
+    }
+}
@@ -1,9 +1,12 @@
 package br.com.music.api.Config;
 
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -14,14 +17,24 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 public class SecurityConfig {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final ApiKeyService apiKeyService;
+    private final boolean apiKeysEnabled;
+    private final Tracer tracer;
 
-    public SecurityConfig(JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService,
+                          ApiKeyService apiKeyService,
+                          @Value("${auth.api-keys.enabled:false}") boolean apiKeysEnabled,
+                          Tracer tracer) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.apiKeyService = apiKeyService;
+        this.apiKeysEnabled = apiKeysEnabled;
+        this.tracer = tracer;
     }
 
     @Bean
@@ -38,9 +51,14 @@ public class SecurityConfig {
         return authenticationManagerBuilder.build();
     }
 
+    @Bean
+    public PublicPaths publicPaths() {
+        return PublicPaths.defaults();
+    }
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(tokenProvider);
+        return new JwtAuthenticationFilter(tokenProvider, publicPaths(), tracer);
     }
 
     @Bean
@@ -51,25 +69,21 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(authz -> authz
-                // Public endpoints - Swagger UI and OpenAPI documentation
-                .requestMatchers(
-                    "/swagger-ui/**",
-                    "/swagger-ui.html",
-                    "/v3/api-docs**",
-                    "/v3/api-docs/**",
-                    "/swagger-resources**",
-                    "/swagger-resources/**",
-                    "/webjars/**"
-                ).permitAll()
-                // Public endpoints - Static resources
-                .requestMatchers("/static/**", "/css/**", "/js/**", "/images/**").permitAll()
-                // Public endpoints - Root and Authentication and Login
-                .requestMatchers("/", "/login", "/v1/auth/**").permitAll()
+                // Public endpoints - Swagger UI, static resources, root, authentication and login
+                .requestMatchers(publicPaths()).permitAll()
+                // Scraped with an API key of scope METRICS, so the scraper needs no ADMIN credentials
+                .requestMatchers("/actuator/prometheus").hasAnyRole("ADMIN", "METRICS")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // All other requests require authentication
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
 
+        // Opaque API keys for internal callers; not a bean so it is not registered twice by the servlet container
+        if (apiKeysEnabled) {
+            http.addFilterBefore(new ApiKeyAuthenticationFilter(apiKeyService, publicPaths()), JwtAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 }
@@ -0,0 +1,65 @@
+package br.com.music.api.Config;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.util.StringUtils;
+
+/**
+ * Authenticates STOMP sessions on {@code CONNECT}. Browsers cannot set headers on the WebSocket
+ * handshake, so {@code /ws} is public and the access token travels in the {@code Authorization}
+ * header of the CONNECT frame instead; a rejected frame ends the session with an ERROR frame.
+ * <p>
+ * The channel is server-to-client only: clients may subscribe to {@code /topic/**} but not send,
+ * which would otherwise let them broadcast to every subscriber.
+ */
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final JwtTokenProvider tokenProvider;
+
+    public StompAuthenticationInterceptor(JwtTokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+            case SUBSCRIBE -> {
+                String destination = accessor.getDestination();
+                if (accessor.getUser() == null || destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+                    throw new AccessDeniedException("Subscription to " + destination + " is not allowed");
+                }
+            }
+            case SEND -> throw new AccessDeniedException("Clients cannot send messages on this channel");
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String header) {
+        if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
+            throw new AccessDeniedException("Missing bearer token");
+        }
+        Claims claims = tokenProvider.parseClaims(header.substring(7));
+        // Refresh tokens are only accepted by the refresh endpoint
+        if (claims == null || JwtTokenProvider.REFRESH_TYPE.equals(claims.get(JwtTokenProvider.TYPE_CLAIM, String.class))) {
+            throw new AccessDeniedException("Token expired or invalid");
+        }
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), null,
+                RoleAuthorities.fromClaim(claims.get(JwtTokenProvider.ROLES_CLAIM, String.class)));
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.music.api.Config;
+
+import br.com.music.api.util.TtlCache;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tail-based sampling in front of the OTLP exporter. Spans are held per trace until the local
+ * root span ends; the whole trace is then exported if the root took at least
+ * {@code slowThreshold}, any span failed or the request answered 5xx, and otherwise only with
+ * {@code baselineProbability}.
+ * <p>
+ * Spans that end after their root (async work) follow the decision already taken for the trace.
+ * Traces whose root never arrives are dropped after {@code maxTraceAge}, and at most
+ * {@code maxPendingTraces} traces are buffered.
+ */
+public class TailSamplingSpanExporter implements SpanExporter {
+
+    // Low-cardinality tag set by the Micrometer HTTP server observation
+    private static final AttributeKey<String> HTTP_STATUS = AttributeKey.stringKey("status");
+
+    private static final class PendingTrace {
+        final long firstSeen = System.nanoTime();
+        final List<SpanData> spans = new ArrayList<>();
+    }
+
+    private final SpanExporter delegate;
+    private final long slowThresholdNanos;
+    private final double baselineProbability;
+    private final int maxPendingTraces;
+    private final long maxTraceAgeNanos;
+    private final Map<String, PendingTrace> pending = new LinkedHashMap<>();
+    private final TtlCache<String, Boolean> decisions;
+
+    public TailSamplingSpanExporter(SpanExporter delegate, Duration slowThreshold, double baselineProbability,
+                                    int maxPendingTraces, Duration maxTraceAge) {
+        this.delegate = delegate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.baselineProbability = baselineProbability;
+        this.maxPendingTraces = maxPendingTraces;
+        this.maxTraceAgeNanos = maxTraceAge.toNanos();
+        this.decisions = new TtlCache<>(maxTraceAge.toMillis(), maxPendingTraces);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        List<SpanData> sampled = new ArrayList<>();
+        for (SpanData span : spans) {
+            String traceId = span.getTraceId();
+            Boolean decision = decisions.get(traceId);
+            if (decision != null) {
+                if (decision) {
+                    sampled.add(span);
+                }
+                continue;
+            }
+
+            PendingTrace trace = pending.computeIfAbsent(traceId, id -> new PendingTrace());
+            trace.spans.add(span);
+            if (isLocalRoot(span)) {
+                pending.remove(traceId);
+                boolean keep = keep(span, trace.spans);
+                decisions.put(traceId, keep);
+                if (keep) {
+                    sampled.addAll(trace.spans);
+                }
+            }
+        }
+        evict();
+        return sampled.isEmpty() ? CompletableResultCode.ofSuccess() : delegate.export(sampled);
+    }
+
+    private boolean keep(SpanData root, List<SpanData> spans) {
+        if (root.getEndEpochNanos() - root.getStartEpochNanos() >= slowThresholdNanos) {
+            return true;
+        }
+        String status = root.getAttributes().get(HTTP_STATUS);
+        if (status != null && status.startsWith("5")) {
+            return true;
+        }
+        for (SpanData span : spans) {
+            if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+                return true;
+            }
+        }
+        return ThreadLocalRandom.current().nextDouble() < baselineProbability;
+    }
+
+    private static boolean isLocalRoot(SpanData span) {
+        return !span.getParentSpanContext().isValid() || span.getParentSpanContext().isRemote();
+    }
+
+    // Insertion order is arrival order, so expired and excess traces are at the head
+    private void evict() {
+        long now = System.nanoTime();
+        Iterator<PendingTrace> traces = pending.values().iterator();
+        while (traces.hasNext()) {
+            PendingTrace trace = traces.next();
+            if (pending.size() <= maxPendingTraces && now - trace.firstSeen < maxTraceAgeNanos) {
+                break;
+            }
+            traces.remove();
+        }
+    }
+
+    synchronized int pendingTraces() {
+        return pending.size();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return delegate.flush();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        pending.clear();
+        return delegate.shutdown();
+    }
+}
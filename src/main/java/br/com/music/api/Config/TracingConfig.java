@@ -0,0 +1,36 @@
+package br.com.music.api.Config;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Puts {@link TailSamplingSpanExporter} in front of the exporter Spring Boot configures for
+ * {@code management.otlp.tracing.*}. Head sampling stays at 1.0 so the slow requests are
+ * recorded; the decision to ship them is taken here once their root span has ended.
+ */
+@Configuration
+public class TracingConfig {
+
+    // Static so wrapping the exporter does not force early initialization of this class
+    @Bean
+    static BeanPostProcessor tailSamplingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SpanExporter exporter && !(bean instanceof TailSamplingSpanExporter)) {
+                    return new TailSamplingSpanExporter(exporter,
+                            environment.getProperty("app.tracing.tail.slow-threshold", Duration.class, Duration.ofMillis(500)),
+                            environment.getProperty("app.tracing.tail.baseline-probability", Double.class, 0.01),
+                            environment.getProperty("app.tracing.tail.max-pending-traces", Integer.class, 10000),
+                            environment.getProperty("app.tracing.tail.max-trace-age", Duration.class, Duration.ofSeconds(30)));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.music.api.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Extra wiring for {@code spring.threads.virtual.enabled=true}. Spring Boot already moves Tomcat,
+ * {@code @Async} and scheduling onto virtual threads; this adds the JDBC checkout bound and the
+ * pinning diagnostics.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    // Static so wrapping the DataSource does not force early initialization of this class. Runs first,
+    // so proxies added by other post-processors (JDBC tracing) sit outside the bound
+    @Bean
+    static BeanPostProcessor boundedDataSourcePostProcessor() {
+        return new BoundedDataSourcePostProcessor();
+    }
+
+    private static final class BoundedDataSourcePostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                return new BoundedDataSource(hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout(),
+                        remaining -> checkout(hikari, remaining));
+            }
+            return bean;
+        }
+
+        // HikariDataSource.getConnection() always waits the full connection-timeout; the pool takes a
+        // per-call limit, so the time already spent on the semaphore is not waited a second time
+        private static Connection checkout(HikariDataSource hikari, long timeoutMs) throws SQLException {
+            if (hikari.getHikariPoolMXBean() instanceof HikariPool pool) {
+                return pool.getConnection(timeoutMs);
+            }
+            // The first checkout starts the pool
+            return hikari.getConnection();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    // Under virtual threads saturation shows up here rather than in hikaricp.connections.pending
+    @Bean
+    MeterBinder boundedDataSourceMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, BoundedDataSource.class))
+                .filter(bounded -> bounded != null)
+                .forEach(bounded -> {
+                    Gauge.builder("jdbc.permits.available", bounded, BoundedDataSource::getAvailablePermits)
+                            .description("Connection checkout permits left")
+                            .register(registry);
+                    Gauge.builder("jdbc.permits.waiting", bounded, BoundedDataSource::getWaitingCallers)
+                            .description("Callers parked waiting for a connection checkout permit")
+                            .register(registry);
+                });
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            @Value("${app.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        return new PinnedThreadMonitor(threshold);
+    }
+}
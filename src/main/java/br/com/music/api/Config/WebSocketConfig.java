@@ -0,0 +1,81 @@
+package br.com.music.api.Config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
+
+/**
+ * STOMP over WebSocket on {@code /ws}, with the in-memory broker serving {@code /topic/**}.
+ * <p>
+ * Every session sends through its own bounded buffer ({@code app.websocket.send-buffer-size-limit}):
+ * a client that stops reading for longer than {@code app.websocket.send-time-limit}, or lets the
+ * buffer fill up, is disconnected instead of holding back the broadcast to everyone else. Heartbeats
+ * in both directions detect dead connections behind proxies.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final JwtTokenProvider tokenProvider;
+    private final String[] allowedOrigins;
+    private final Duration heartbeat;
+    private final DataSize sendBufferSizeLimit;
+    private final Duration sendTimeLimit;
+    private TaskScheduler heartbeatScheduler;
+
+    public WebSocketConfig(JwtTokenProvider tokenProvider,
+                           @Value("${app.websocket.allowed-origins:${app.front-end-origin:http://localhost:3000}}") String[] allowedOrigins,
+                           @Value("${app.websocket.heartbeat:10s}") Duration heartbeat,
+                           @Value("${app.websocket.send-buffer-size-limit:512KB}") DataSize sendBufferSizeLimit,
+                           @Value("${app.websocket.send-time-limit:10s}") Duration sendTimeLimit) {
+        this.tokenProvider = tokenProvider;
+        this.allowedOrigins = allowedOrigins;
+        this.heartbeat = heartbeat;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.sendTimeLimit = sendTimeLimit;
+    }
+
+    // The broker's own scheduler; lazy because it is created by the configuration this class feeds
+    @Autowired
+    public void setHeartbeatScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.heartbeatScheduler = messageBrokerTaskScheduler;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        long interval = heartbeat.toMillis();
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[] {interval, interval})
+                .setTaskScheduler(heartbeatScheduler);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new StompAuthenticationInterceptor(tokenProvider));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .setSendTimeLimit((int) sendTimeLimit.toMillis())
+                // Clients only send CONNECT/SUBSCRIBE frames
+                .setMessageSizeLimit(16 * 1024);
+    }
+}
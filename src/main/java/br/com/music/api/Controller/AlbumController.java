@@ -1,11 +1,15 @@
 package br.com.music.api.Controller;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,7 +20,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springdoc.core.annotations.ParameterObject;
+import br.com.music.api.Controller.dto.AlbumDetailDto;
 import br.com.music.api.Controller.dto.AlbumDto;
+import br.com.music.api.Domain.Album;
 import br.com.music.api.Services.AlbumService;
 
 @RestController
@@ -31,12 +37,31 @@ public class AlbumController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar todos os álbuns", description = "Recupera uma lista paginada de todos os álbuns no sistema")
+    @Operation(summary = "Listar álbuns", description = "Recupera uma lista paginada de álbuns, com filtros opcionais (tamanho máximo de página: 100)")
     @ApiResponse(responseCode = "200", description = "Lista de álbuns recuperada com sucesso", 
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = AlbumDto.class)))
-    public Page<AlbumDto> list(
-            @ParameterObject Pageable pageable) {
-        return service.list(pageable);
+    @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields", content = @Content())
+    public ResponseEntity<?> list(
+            @ParameterObject Pageable pageable,
+            @Parameter(description = "Filtrar por álbuns ativos ou inativos")
+            @RequestParam(required = false) Boolean ativo,
+            @Parameter(description = "Data de lançamento mínima (inclusive)", example = "2000-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lancadoDe,
+            @Parameter(description = "Data de lançamento máxima (inclusive)", example = "2009-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lancadoAte,
+            @Parameter(description = "Apenas álbuns deste artista")
+            @RequestParam(required = false) Long artistaId,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,titulo); apenas essas colunas são lidas")
+            @RequestParam(required = false) String fields) {
+        Specification<Album> filter = AlbumService.filter(ativo, lancadoDe, lancadoAte, artistaId);
+        if (fields == null) {
+            return ResponseEntity.ok(service.list(filter, pageable));
+        }
+        try {
+            return ResponseEntity.ok(service.list(filter, pageable, fields));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
@@ -55,7 +80,23 @@ public class AlbumController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/detail")
+    @Operation(summary = "Obter detalhe do álbum", description = "Recupera o álbum com seus artistas e os metadados das imagens, com links pré-assinados, em uma única requisição")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Álbum encontrado", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = AlbumDetailDto.class))),
+        @ApiResponse(responseCode = "404", description = "Álbum não encontrado", content = @Content())
+    })
+    public ResponseEntity<AlbumDetailDto> detail(
+            @Parameter(description = "ID do álbum", required = true)
+            @PathVariable Long id) {
+        return service.detail(id)
+                .map(album -> ResponseEntity.ok(album))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Criar novo álbum", description = "Cria um novo álbum com os detalhes fornecidos")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Álbum criado com sucesso", 
@@ -72,6 +113,7 @@ public class AlbumController {
     }
 
     @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Atualizar álbum", description = "Atualiza um álbum existente com novas informações")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Álbum atualizado com sucesso", 
@@ -90,6 +132,7 @@ public class AlbumController {
     }
 
     @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Deletar álbum", description = "Deleta um álbum pelo seu ID único")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Álbum deletado com sucesso", content = @Content()),
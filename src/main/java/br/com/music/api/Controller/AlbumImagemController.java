@@ -3,7 +3,10 @@ package br.com.music.api.Controller;
 import java.net.URI;
 import java.util.List;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springdoc.core.annotations.ParameterObject;
 import br.com.music.api.Controller.dto.AlbumImagemDto;
 import br.com.music.api.Services.AlbumImagemService;
 
@@ -28,11 +32,14 @@ public class AlbumImagemController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar todas as imagens de álbum", description = "Recupera uma lista de todas as imagens de álbum no sistema")
+    @Operation(summary = "Listar imagens de álbum", description = "Recupera uma lista paginada de imagens de álbum, filtrável por álbum (tamanho máximo de página: 100)")
     @ApiResponse(responseCode = "200", description = "Lista de imagens recuperada com sucesso", 
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = AlbumImagemDto.class)))
-    public List<AlbumImagemDto> list() {
-        return service.list();
+    public Page<AlbumImagemDto> list(
+            @ParameterObject Pageable pageable,
+            @Parameter(description = "Apenas imagens deste álbum")
+            @RequestParam(required = false) Long albumId) {
+        return service.list(albumId, pageable);
     }
 
     @GetMapping("/{id}")
@@ -51,6 +58,7 @@ public class AlbumImagemController {
     }
 
     @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Criar nova imagem de álbum", description = "Cria uma nova imagem de álbum com os detalhes fornecidos")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Imagem criada com sucesso", 
@@ -67,6 +75,7 @@ public class AlbumImagemController {
     }
 
     @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Atualizar imagem de álbum", description = "Atualiza uma imagem de álbum existente com novas informações")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Imagem atualizada com sucesso", 
@@ -85,6 +94,7 @@ public class AlbumImagemController {
     }
 
     @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Deletar imagem de álbum", description = "Deleta uma imagem de álbum pelo seu ID único")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Imagem deletada com sucesso", content = @Content()),
@@ -0,0 +1,45 @@
+package br.com.music.api.Controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import br.com.music.api.Config.ApiKeyService;
+import br.com.music.api.Controller.dto.ApiKeyRequest;
+import br.com.music.api.Controller.dto.ApiKeyResponse;
+import br.com.music.api.Domain.ApiKey;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/v1/api-keys")
+@Tag(name = "Authentication", description = "Authentication endpoints for JWT token generation")
+public class ApiKeyController {
+
+    private final ApiKeyService apiKeyService;
+
+    public ApiKeyController(ApiKeyService apiKeyService) {
+        this.apiKeyService = apiKeyService;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Issue API key", description = "Issue an opaque API key for an internal caller. The token is only returned in this response")
+    public ResponseEntity<ApiKeyResponse> create(@Valid @RequestBody ApiKeyRequest request) {
+        ApiKeyService.IssuedKey issued = apiKeyService.issue(request.getNome(), request.getScopes(), request.getValidadeDias());
+        ApiKey apiKey = issued.apiKey();
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ApiKeyResponse(
+                apiKey.getId(), apiKey.getNome(), apiKey.getScopes(), issued.token(), apiKey.getExpiraEm()));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Revoke API key", description = "Revoke an API key. Other instances stop accepting it once their local cache entry expires")
+    public ResponseEntity<Void> revoke(@PathVariable Long id) {
+        return apiKeyService.revoke(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
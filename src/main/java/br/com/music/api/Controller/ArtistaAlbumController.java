@@ -3,7 +3,10 @@ package br.com.music.api.Controller;
 import java.net.URI;
 import java.util.List;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,7 +16,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springdoc.core.annotations.ParameterObject;
 import br.com.music.api.Controller.dto.ArtistaAlbumDto;
+import br.com.music.api.Domain.ArtistaAlbum;
 import br.com.music.api.Services.ArtistaAlbumService;
 
 @RestController
@@ -28,13 +33,29 @@ public class ArtistaAlbumController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar todas as associações artista-álbum", description = "Recupera uma lista de todas as associações entre artistas e álbuns no sistema")
+    @Operation(summary = "Listar associações artista-álbum", description = "Recupera uma lista paginada de associações entre artistas e álbuns, filtrável por artista e por álbum (tamanho máximo de página: 100)")
     @ApiResponse(responseCode = "200", description = "Lista de associações recuperada com sucesso", 
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArtistaAlbumDto.class)))
-    public List<ArtistaAlbumDto> list(
+    @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields", content = @Content())
+    public ResponseEntity<?> list(
+            @ParameterObject Pageable pageable,
             @Parameter(description = "Ordem de classificação (asc ou desc)", schema = @Schema(allowableValues = {"asc", "desc"}))
-            @RequestParam(defaultValue = "asc") String order) {
-        return service.list(order);
+            @RequestParam(defaultValue = "asc") String order,
+            @Parameter(description = "Apenas associações deste artista")
+            @RequestParam(required = false) Long artistaId,
+            @Parameter(description = "Apenas associações deste álbum")
+            @RequestParam(required = false) Long albumId,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,albumId); artistaNome e albumTitulo exigem join")
+            @RequestParam(required = false) String fields) {
+        Specification<ArtistaAlbum> filter = ArtistaAlbumService.filter(artistaId, albumId);
+        if (fields == null) {
+            return ResponseEntity.ok(service.list(filter, order, pageable));
+        }
+        try {
+            return ResponseEntity.ok(service.list(filter, order, pageable, fields));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
@@ -53,6 +74,7 @@ public class ArtistaAlbumController {
     }
 
     @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Criar nova associação artista-álbum", description = "Cria uma nova associação entre um artista e um álbum")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Associação criada com sucesso", 
@@ -70,6 +92,7 @@ public class ArtistaAlbumController {
     }
 
     @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Atualizar associação artista-álbum", description = "Atualiza uma associação artista-álbum existente")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Associação atualizada com sucesso", 
@@ -88,6 +111,7 @@ public class ArtistaAlbumController {
     }
 
     @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Deletar associação artista-álbum", description = "Deleta uma associação artista-álbum pelo seu ID único")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Associação deletada com sucesso", content = @Content()),
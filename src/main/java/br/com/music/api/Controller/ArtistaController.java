@@ -3,8 +3,11 @@ package br.com.music.api.Controller;
 import java.net.URI;
 import java.util.List;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,7 +17,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springdoc.core.annotations.ParameterObject;
 import br.com.music.api.Controller.dto.ArtistaDto;
+import br.com.music.api.Domain.Artista;
+import br.com.music.api.Domain.Enums.TipoArtista;
 import br.com.music.api.Services.ArtistaService;
 
 @RestController
@@ -29,13 +35,29 @@ public class ArtistaController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar todos os artistas", description = "Recupera uma lista de todos os artistas no sistema")
+    @Operation(summary = "Listar artistas", description = "Recupera uma lista paginada de artistas, com filtros opcionais (tamanho máximo de página: 100)")
     @ApiResponse(responseCode = "200", description = "Lista de artistas recuperada com sucesso", 
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArtistaDto.class)))
-    public List<ArtistaDto> list(
+    @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields", content = @Content())
+    public ResponseEntity<?> list(
+            @ParameterObject Pageable pageable,
             @Parameter(description = "Ordenação do campo artistaNome (asc ou desc)", required = false)
-            @RequestParam(value = "sortArtistaNome", required = false) String sortArtistaNome) {
-        return service.list(sortArtistaNome);
+            @RequestParam(value = "sortArtistaNome", required = false) String sortArtistaNome,
+            @Parameter(description = "Filtrar por tipo de artista")
+            @RequestParam(required = false) TipoArtista tipo,
+            @Parameter(description = "Filtrar por artistas ativos ou inativos")
+            @RequestParam(required = false) Boolean ativo,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,nome); apenas essas colunas são lidas")
+            @RequestParam(required = false) String fields) {
+        Specification<Artista> filter = ArtistaService.filter(tipo, ativo);
+        if (fields == null) {
+            return ResponseEntity.ok(service.list(filter, sortArtistaNome, pageable));
+        }
+        try {
+            return ResponseEntity.ok(service.list(filter, sortArtistaNome, pageable, fields));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
@@ -56,6 +78,7 @@ public class ArtistaController {
     }
 
     @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Criar novo artista", description = "Cria um novo artista com os detalhes fornecidos")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Artista criado com sucesso", 
@@ -72,6 +95,7 @@ public class ArtistaController {
     }
 
     @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Atualizar artista", description = "Atualiza um artista existente com novas informações")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Artista atualizado com sucesso", 
@@ -90,6 +114,7 @@ public class ArtistaController {
     }
 
     @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Deletar artista", description = "Deleta um artista pelo seu ID único")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Artista deletado com sucesso", content = @Content()),
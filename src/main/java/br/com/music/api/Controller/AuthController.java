@@ -4,7 +4,7 @@ import br.com.music.api.Controller.dto.JwtAuthResponse;
 import br.com.music.api.Controller.dto.LoginRequest;
 import br.com.music.api.Controller.dto.LogoutResponse;
 import br.com.music.api.Controller.dto.RefreshTokenRequest;
-import br.com.music.api.Config.JwtTokenProvider;
+import br.com.music.api.Config.RefreshTokenService;
 import br.com.music.api.Domain.User;
 import br.com.music.api.Repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,14 +28,14 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthenticationManager authenticationManager;
-    private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
-    public AuthController(AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider,
+    public AuthController(AuthenticationManager authenticationManager, RefreshTokenService refreshTokenService,
                          UserRepository userRepository, PasswordEncoder passwordEncoder) {
         this.authenticationManager = authenticationManager;
-        this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
     }
@@ -51,9 +51,8 @@ public class AuthController {
                     )
             );
 
-            String accessToken = tokenProvider.generateToken(authentication);
-            String refreshToken = tokenProvider.generateRefreshToken(authentication);
-            return ResponseEntity.ok(new JwtAuthResponse(accessToken, refreshToken, loginRequest.getUsername()));
+            RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(authentication);
+            return ResponseEntity.ok(new JwtAuthResponse(tokens.accessToken(), tokens.refreshToken(), tokens.username()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("Invalid credentials: " + e.getMessage());
@@ -84,22 +83,20 @@ public class AuthController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Token refreshed successfully", 
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = JwtAuthResponse.class))),
-        @ApiResponse(responseCode = "401", description = "Invalid or expired refresh token", content = @Content())
+        @ApiResponse(responseCode = "401", description = "Invalid, expired, revoked or already used refresh token", content = @Content()),
+        @ApiResponse(responseCode = "409", description = "Refresh token was rotated a moment ago by a concurrent refresh; retry with the token it returned", content = @Content())
     })
     public ResponseEntity<?> refreshToken(@RequestBody @Valid RefreshTokenRequest refreshRequest) {
         try {
-            String refreshToken = refreshRequest.getRefreshToken();
-            
-            if (!tokenProvider.validateToken(refreshToken)) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+            RefreshTokenService.Refresh refresh = refreshTokenService.refresh(refreshRequest.getRefreshToken());
+            return switch (refresh.result()) {
+                case ROTATED -> ResponseEntity.ok(new JwtAuthResponse(refresh.tokens().accessToken(),
+                        refresh.tokens().refreshToken(), refresh.tokens().username()));
+                case ALREADY_ROTATED -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body("Refresh token was just rotated; retry with the new refresh token");
+                default -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body("Invalid or expired refresh token");
-            }
-
-            String username = tokenProvider.getUsernameFromToken(refreshToken);
-            String newAccessToken = tokenProvider.generateTokenFromUsername(username);
-            String newRefreshToken = tokenProvider.generateRefreshTokenFromUsername(username);
-            
-            return ResponseEntity.ok(new JwtAuthResponse(newAccessToken, newRefreshToken, username));
+            };
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("Failed to refresh token: " + e.getMessage());
@@ -107,8 +104,11 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    @Operation(summary = "User logout", description = "Logout user (client-side token removal)")
-    public ResponseEntity<?> logoutUser() {
+    @Operation(summary = "User logout", description = "Logout user; when a refresh token is sent its whole token family is revoked")
+    public ResponseEntity<?> logoutUser(@RequestBody(required = false) RefreshTokenRequest logoutRequest) {
+        if (logoutRequest != null && logoutRequest.getRefreshToken() != null) {
+            refreshTokenService.revoke(logoutRequest.getRefreshToken());
+        }
         String username = "unknown";
         try {
             Authentication authentication = org.springframework.security.core.context.SecurityContextHolder
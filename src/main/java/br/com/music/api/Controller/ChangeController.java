@@ -0,0 +1,74 @@
+package br.com.music.api.Controller;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import br.com.music.api.Controller.dto.CatalogChangeDto;
+import br.com.music.api.Services.ChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/v1/changes")
+@Tag(name = "Alterações", description = "Feed de alterações do catálogo via Server-Sent Events")
+public class ChangeController {
+
+    private final ChangeFeed feed;
+    private final long streamTimeoutMillis;
+
+    public ChangeController(ChangeFeed feed, @Value("${app.changes.stream-timeout:30m}") Duration streamTimeout) {
+        this.feed = feed;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar alterações", description = "Transmite um evento 'change' por alteração de artista, álbum, associação ou imagem, na ordem de commit. "
+            + "O id de cada evento é o cursor: ao reconectar com Last-Event-ID (ou ?after=) o feed continua do ponto em que parou. "
+            + "Sem cursor, começa pelas próximas alterações; com after=0-0, desde a mais antiga retida. "
+            + "Se alterações posteriores ao cursor já foram removidas pela retenção, um evento 'reset' indica que o cliente deve recarregar o catálogo")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Feed transmitido",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = CatalogChangeDto.class))),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido", content = @Content())
+    })
+    public ResponseEntity<?> changes(
+            @Parameter(description = "Id do último evento recebido, enviado pelo EventSource ao reconectar")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @Parameter(description = "Cursor de retomada, para clientes que não enviam Last-Event-ID", example = "0-0")
+            @RequestParam(required = false) String after) throws IOException {
+        String resumeFrom = StringUtils.hasText(lastEventId) ? lastEventId : after;
+        ChangeFeed.Cursor cursor;
+        try {
+            cursor = StringUtils.hasText(resumeFrom) ? ChangeFeed.Cursor.parse(resumeFrom.trim()) : feed.head();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(e.getMessage());
+        }
+
+        // The client reconnects with Last-Event-ID when the stream times out
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        if (!feed.canResumeFrom(cursor)) {
+            // The head is never below the retention watermark, so resuming from it does not reset again
+            ChangeFeed.Cursor head = feed.head();
+            emitter.send(SseEmitter.event().id(head.toString()).name("reset").data("{\"cursor\":\"" + head + "\"}", MediaType.APPLICATION_JSON));
+            cursor = head;
+        }
+        feed.subscribe(emitter, cursor);
+        return ResponseEntity.ok()
+                .header("Cache-Control", "no-cache")
+                // Stops nginx-style proxies from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.music.api.Controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import br.com.music.api.Services.CatalogExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/v1/export")
+@Tag(name = "Exportação", description = "Exportação completa do catálogo em NDJSON")
+public class ExportController {
+
+    public static final String NDJSON = "application/x-ndjson";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final CatalogExportService service;
+
+    public ExportController(CatalogExportService service) {
+        this.service = service;
+    }
+
+    @GetMapping("/{dataset}")
+    @Operation(summary = "Exportar catálogo", description = "Transmite todos os registros do conjunto como JSON delimitado por linha (um objeto por linha), comprimido com gzip quando o cliente aceita")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Exportação transmitida", content = @Content(mediaType = NDJSON)),
+        @ApiResponse(responseCode = "404", description = "Conjunto desconhecido", content = @Content())
+    })
+    public void export(
+            @Parameter(description = "Conjunto a exportar", required = true,
+                schema = @Schema(allowableValues = {"artistas", "albuns", "artistas-albuns"}))
+            @PathVariable String dataset,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        CatalogExportService.Dataset selected = CatalogExportService.Dataset.fromPath(dataset).orElse(null);
+        if (selected == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + selected.getPath() + ".ndjson\"");
+
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            try (GZIPOutputStream gzip = new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE)) {
+                service.export(selected, gzip);
+            }
+        } else {
+            OutputStream out = response.getOutputStream();
+            service.export(selected, out);
+            out.flush();
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.music.api.Controller;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import br.com.music.api.Controller.dto.ImportReport;
+import br.com.music.api.Domain.Enums.StatusImportacao;
+import br.com.music.api.Services.importacao.CatalogImportService;
+import br.com.music.api.Services.importacao.ImportFormat;
+import br.com.music.api.Services.importacao.ImportTarget;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/v1/import")
+@Tag(name = "Importação", description = "Importação em massa de artistas e álbuns (NDJSON ou CSV)")
+public class ImportController {
+
+    private final CatalogImportService service;
+
+    public ImportController(CatalogImportService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/{tipo}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar em massa", description = "Lê o corpo da requisição linha a linha (application/x-ndjson ou text/csv com cabeçalho), valida cada linha e carrega os registros via COPY. Artistas são identificados pelo nome e álbuns por título e data de lançamento. Para retomar um job interrompido, reenvie o mesmo arquivo com o jobId")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Importação concluída",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportReport.class))),
+        @ApiResponse(responseCode = "404", description = "Tipo ou job não encontrado", content = @Content()),
+        @ApiResponse(responseCode = "409", description = "Job não pode ser retomado", content = @Content()),
+        @ApiResponse(responseCode = "500", description = "Importação interrompida; retome com o jobId",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportReport.class)))
+    })
+    public ResponseEntity<?> importar(
+            @Parameter(description = "Tabela a importar", required = true, schema = @Schema(allowableValues = {"artistas", "albuns"}))
+            @PathVariable String tipo,
+            @Parameter(description = "Job a retomar")
+            @RequestParam(required = false) UUID jobId,
+            HttpServletRequest request) throws IOException {
+        ImportTarget target = ImportTarget.fromPath(tipo).orElse(null);
+        if (target == null) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return service.importar(target, ImportFormat.fromContentType(request.getContentType()), request.getInputStream(), jobId)
+                    .<ResponseEntity<?>>map(report -> ResponseEntity
+                            .status(StatusImportacao.FALHOU.name().equals(report.getStatus())
+                                    ? HttpStatus.INTERNAL_SERVER_ERROR : HttpStatus.OK)
+                            .body(report))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Status da importação", description = "Recupera os contadores e o checkpoint de um job de importação")
+    public ResponseEntity<ImportReport> status(@PathVariable UUID jobId) {
+        return service.status(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
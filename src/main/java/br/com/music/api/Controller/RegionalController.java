@@ -4,6 +4,7 @@ import java.net.URI;
 import java.util.List;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 import io.swagger.v3.oas.annotations.Operation;
@@ -51,6 +52,7 @@ public class RegionalController {
     }
 
     @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Criar nova região", description = "Cria uma nova região com os detalhes fornecidos")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Região criada com sucesso", 
@@ -67,6 +69,7 @@ public class RegionalController {
     }
 
     @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Atualizar região", description = "Atualiza uma região existente com novas informações")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Região atualizada com sucesso", 
@@ -85,6 +88,7 @@ public class RegionalController {
     }
 
     @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Deletar região", description = "Deleta uma região pelo seu ID único")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Região deletada com sucesso", content = @Content()),
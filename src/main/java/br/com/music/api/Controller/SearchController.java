@@ -0,0 +1,50 @@
+package br.com.music.api.Controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import br.com.music.api.Controller.dto.SearchResponse;
+import br.com.music.api.Services.SearchService;
+
+@RestController
+@RequestMapping("/v1/search")
+@Tag(name = "Busca", description = "Busca textual em artistas e álbuns")
+public class SearchController {
+
+    private final SearchService service;
+
+    public SearchController(SearchService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    @Operation(summary = "Buscar artistas e álbuns", description = "Busca por nome de artista e título de álbum, sem diferenciar acentos e tolerando erros de digitação. Resultados ordenados por relevância e paginados por cursor")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Resultados encontrados", 
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SearchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Busca vazia ou cursor inválido", content = @Content())
+    })
+    public ResponseEntity<?> search(
+            @Parameter(description = "Texto buscado", required = true, example = "Beyonce")
+            @RequestParam String q,
+            @Parameter(description = "Valor de proximoCursor da página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Resultados por página (máximo 50)")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(service.search(q, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
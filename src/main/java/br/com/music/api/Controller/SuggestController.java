@@ -0,0 +1,54 @@
+package br.com.music.api.Controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import br.com.music.api.Controller.dto.SuggestionDto;
+import br.com.music.api.Services.SuggestService;
+
+@RestController
+@RequestMapping("/v1/suggest")
+@Tag(name = "Busca", description = "Busca textual em artistas e álbuns")
+public class SuggestController {
+
+    private final SuggestService service;
+
+    public SuggestController(SuggestService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    @Operation(summary = "Autocompletar nomes", description = "Sugere artistas e álbuns ativos cujo nome (ou uma palavra do nome) começa com o prefixo, sem diferenciar acentos, dos mais populares para os menos. Atendido em memória, sem acesso ao banco")
+    @ApiResponse(responseCode = "200", description = "Sugestões encontradas",
+        content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = SuggestionDto.class))))
+    public List<SuggestionDto> suggest(
+            @Parameter(description = "Prefixo digitado", required = true, example = "beat")
+            @RequestParam String prefix,
+            @Parameter(description = "Número máximo de sugestões (máximo 10)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return service.suggest(prefix, limit);
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reconstruir índice de sugestões", description = "Recarrega o índice em segundo plano a partir do banco e o substitui atomicamente; as consultas continuam sendo atendidas pelo índice atual enquanto isso")
+    @ApiResponse(responseCode = "202", description = "Reconstrução iniciada", content = @Content())
+    public ResponseEntity<Void> rebuild() {
+        service.rebuildInBackground();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.music.api.Controller.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Album with its artists and image metadata, for rendering an album page in one request")
+public class AlbumDetailDto {
+    @Schema(description = "Unique identifier for the album", example = "1")
+    private Long id;
+
+    @Schema(description = "Album title", example = "Abbey Road")
+    private String titulo;
+
+    @Schema(description = "Album release date", example = "2023-01-15")
+    private LocalDate dataLancamento;
+
+    @Schema(description = "Whether the album is active", example = "true")
+    private Boolean ativo;
+
+    @Schema(description = "Artists of the album, ordered by name")
+    private List<ArtistaDto> artistas;
+
+    @Schema(description = "Images of the album, ordered by id")
+    private List<Imagem> imagens;
+
+    public AlbumDetailDto() {}
+
+    public AlbumDetailDto(Long id, String titulo, LocalDate dataLancamento, Boolean ativo,
+                          List<ArtistaDto> artistas, List<Imagem> imagens) {
+        this.id = id;
+        this.titulo = titulo;
+        this.dataLancamento = dataLancamento;
+        this.ativo = ativo;
+        this.artistas = artistas;
+        this.imagens = imagens;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitulo() { return titulo; }
+    public void setTitulo(String titulo) { this.titulo = titulo; }
+
+    public LocalDate getDataLancamento() { return dataLancamento; }
+    public void setDataLancamento(LocalDate dataLancamento) { this.dataLancamento = dataLancamento; }
+
+    public Boolean getAtivo() { return ativo; }
+    public void setAtivo(Boolean ativo) { this.ativo = ativo; }
+
+    public List<ArtistaDto> getArtistas() { return artistas; }
+    public void setArtistas(List<ArtistaDto> artistas) { this.artistas = artistas; }
+
+    public List<Imagem> getImagens() { return imagens; }
+    public void setImagens(List<Imagem> imagens) { this.imagens = imagens; }
+
+    @Schema(description = "Album image metadata with a presigned download URL")
+    public static class Imagem {
+        @Schema(description = "Unique identifier for the album image", example = "1")
+        private Long id;
+
+        @Schema(description = "MIME type of the image", example = "image/jpeg")
+        private String contentType;
+
+        @Schema(description = "Size of the image in bytes", example = "102400")
+        private Long tamanho;
+
+        @Schema(description = "Presigned GET URL, valid for minio.presigned-url.expiry (30 minutes by default)")
+        private String url;
+
+        public Imagem() {}
+
+        public Imagem(Long id, String contentType, Long tamanho, String url) {
+            this.id = id;
+            this.contentType = contentType;
+            this.tamanho = tamanho;
+            this.url = url;
+        }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getContentType() { return contentType; }
+        public void setContentType(String contentType) { this.contentType = contentType; }
+
+        public Long getTamanho() { return tamanho; }
+        public void setTamanho(Long tamanho) { this.tamanho = tamanho; }
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.music.api.Controller.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Request to issue an API key for an internal caller")
+public class ApiKeyRequest {
+
+    @NotBlank(message = "Name cannot be blank")
+    @Size(max = 100, message = "Name must be at most 100 characters")
+    @Schema(description = "Name of the calling service", example = "batch-importer", required = true)
+    private String nome;
+
+    @NotEmpty(message = "At least one scope is required")
+    @Schema(description = "Roles granted to the key", example = "[\"USER\"]", required = true)
+    private List<String> scopes;
+
+    @Positive(message = "Validity must be positive")
+    @Schema(description = "Validity in days; omit for a key that does not expire", example = "90")
+    private Integer validadeDias;
+
+    public ApiKeyRequest() {}
+
+    public ApiKeyRequest(String nome, List<String> scopes, Integer validadeDias) {
+        this.nome = nome;
+        this.scopes = scopes;
+        this.validadeDias = validadeDias;
+    }
+
+    public String getNome() { return nome; }
+    public void setNome(String nome) { this.nome = nome; }
+
+    public List<String> getScopes() { return scopes; }
+    public void setScopes(List<String> scopes) { this.scopes = scopes; }
+
+    public Integer getValidadeDias() { return validadeDias; }
+    public void setValidadeDias(Integer validadeDias) { this.validadeDias = validadeDias; }
+}
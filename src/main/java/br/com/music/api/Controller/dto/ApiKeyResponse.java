@@ -0,0 +1,49 @@
+package br.com.music.api.Controller.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Issued API key; the token is only returned once")
+public class ApiKeyResponse {
+
+    @Schema(description = "API key identifier", example = "1")
+    private Long id;
+
+    @Schema(description = "Name of the calling service", example = "batch-importer")
+    private String nome;
+
+    @Schema(description = "Roles granted to the key", example = "USER")
+    private String scopes;
+
+    @Schema(description = "Opaque token to send in the X-API-Key header")
+    private String token;
+
+    @Schema(description = "Expiration date, null when the key does not expire")
+    private LocalDateTime expiraEm;
+
+    public ApiKeyResponse() {}
+
+    public ApiKeyResponse(Long id, String nome, String scopes, String token, LocalDateTime expiraEm) {
+        this.id = id;
+        this.nome = nome;
+        this.scopes = scopes;
+        this.token = token;
+        this.expiraEm = expiraEm;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getNome() { return nome; }
+    public void setNome(String nome) { this.nome = nome; }
+
+    public String getScopes() { return scopes; }
+    public void setScopes(String scopes) { this.scopes = scopes; }
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+
+    public LocalDateTime getExpiraEm() { return expiraEm; }
+    public void setExpiraEm(LocalDateTime expiraEm) { this.expiraEm = expiraEm; }
+}
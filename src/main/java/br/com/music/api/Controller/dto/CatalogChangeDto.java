@@ -0,0 +1,14 @@
+package br.com.music.api.Controller.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Catalogue change, sent as the data of a change event on /v1/changes")
+public record CatalogChangeDto(
+        @Schema(description = "Changed entity", example = "ALBUM",
+                allowableValues = {"ARTISTA", "ALBUM", "ARTISTA_ALBUM", "ALBUM_IMAGEM"}) String entidade,
+        @Schema(description = "Record identifier; null for bulk imports", example = "42") Long id,
+        @Schema(description = "What happened to the record", example = "CRIADO",
+                allowableValues = {"CRIADO", "ATUALIZADO", "REMOVIDO", "IMPORTADO"}) String operacao,
+        @Schema(description = "When the change was recorded") LocalDateTime em) {}
@@ -0,0 +1,88 @@
+package br.com.music.api.Controller.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of a bulk import job. Counters cover every run of the job")
+public class ImportReport {
+
+    public record RowError(long linha, String erro) {}
+
+    @Schema(description = "Job identifier; send it as jobId to resume an interrupted import")
+    private UUID jobId;
+
+    @Schema(description = "Imported table", example = "artistas")
+    private String tipo;
+
+    @Schema(description = "Job status", example = "CONCLUIDA", allowableValues = {"EM_ANDAMENTO", "CONCLUIDA", "FALHOU"})
+    private String status;
+
+    @Schema(description = "Input lines committed so far (checkpoint)", example = "100001")
+    private long linhasProcessadas;
+
+    @Schema(description = "Rows that passed validation", example = "99990")
+    private long aceitas;
+
+    @Schema(description = "Rows rejected by validation", example = "10")
+    private long rejeitadas;
+
+    @Schema(description = "New rows inserted", example = "99000")
+    private long inseridas;
+
+    @Schema(description = "Existing rows updated", example = "990")
+    private long atualizadas;
+
+    @Schema(description = "Failure reason, if any")
+    private String mensagem;
+
+    @Schema(description = "First rejected rows of this run")
+    private List<RowError> erros;
+
+    public ImportReport() {}
+
+    public ImportReport(UUID jobId, String tipo, String status, long linhasProcessadas, long aceitas, long rejeitadas,
+                        long inseridas, long atualizadas, String mensagem, List<RowError> erros) {
+        this.jobId = jobId;
+        this.tipo = tipo;
+        this.status = status;
+        this.linhasProcessadas = linhasProcessadas;
+        this.aceitas = aceitas;
+        this.rejeitadas = rejeitadas;
+        this.inseridas = inseridas;
+        this.atualizadas = atualizadas;
+        this.mensagem = mensagem;
+        this.erros = erros;
+    }
+
+    public UUID getJobId() { return jobId; }
+    public void setJobId(UUID jobId) { this.jobId = jobId; }
+
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public long getLinhasProcessadas() { return linhasProcessadas; }
+    public void setLinhasProcessadas(long linhasProcessadas) { this.linhasProcessadas = linhasProcessadas; }
+
+    public long getAceitas() { return aceitas; }
+    public void setAceitas(long aceitas) { this.aceitas = aceitas; }
+
+    public long getRejeitadas() { return rejeitadas; }
+    public void setRejeitadas(long rejeitadas) { this.rejeitadas = rejeitadas; }
+
+    public long getInseridas() { return inseridas; }
+    public void setInseridas(long inseridas) { this.inseridas = inseridas; }
+
+    public long getAtualizadas() { return atualizadas; }
+    public void setAtualizadas(long atualizadas) { this.atualizadas = atualizadas; }
+
+    public String getMensagem() { return mensagem; }
+    public void setMensagem(String mensagem) { this.mensagem = mensagem; }
+
+    public List<RowError> getErros() { return erros; }
+    public void setErros(List<RowError> erros) { this.erros = erros; }
+}
@@ -0,0 +1,35 @@
+package br.com.music.api.Controller.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One page of search results, best matches first")
+public class SearchResponse {
+
+    @Schema(description = "Search hit")
+    public record Resultado(
+            @Schema(description = "Kind of record", example = "ARTISTA", allowableValues = {"ARTISTA", "ALBUM"}) String tipo,
+            @Schema(description = "Record identifier", example = "1") Long id,
+            @Schema(description = "Artist name or album title", example = "Beyoncé") String nome,
+            @Schema(description = "Relevance score, higher is better", example = "0.82") float score) {}
+
+    @Schema(description = "Results of this page")
+    private List<Resultado> resultados;
+
+    @Schema(description = "Cursor for the next page; absent on the last page")
+    private String proximoCursor;
+
+    public SearchResponse() {}
+
+    public SearchResponse(List<Resultado> resultados, String proximoCursor) {
+        this.resultados = resultados;
+        this.proximoCursor = proximoCursor;
+    }
+
+    public List<Resultado> getResultados() { return resultados; }
+    public void setResultados(List<Resultado> resultados) { this.resultados = resultados; }
+
+    public String getProximoCursor() { return proximoCursor; }
+    public void setProximoCursor(String proximoCursor) { this.proximoCursor = proximoCursor; }
+}
@@ -0,0 +1,9 @@
+package br.com.music.api.Controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Autocomplete suggestion")
+public record SuggestionDto(
+        @Schema(description = "Kind of record", example = "ARTISTA", allowableValues = {"ARTISTA", "ALBUM"}) String tipo,
+        @Schema(description = "Record identifier", example = "1") Long id,
+        @Schema(description = "Artist name or album title", example = "The Beatles") String nome) {}
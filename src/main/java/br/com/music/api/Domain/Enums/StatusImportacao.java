@@ -0,0 +1,7 @@
+package br.com.music.api.Domain.Enums;
+
+public enum StatusImportacao {
+    EM_ANDAMENTO,
+    CONCLUIDA,
+    FALHOU
+}
@@ -0,0 +1,158 @@
+package br.com.music.api.Domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import br.com.music.api.Domain.Enums.StatusImportacao;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "import_job")
+public class ImportJob {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 20)
+    private String tipo;
+
+    @Column(nullable = false, length = 10)
+    private String formato;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusImportacao status;
+
+    // Checkpoint: input lines already committed; a restarted job skips them
+    @Column(name = "linhas_processadas", nullable = false)
+    private long linhasProcessadas;
+
+    @Column(nullable = false)
+    private long aceitas;
+
+    @Column(nullable = false)
+    private long rejeitadas;
+
+    @Column(nullable = false)
+    private long inseridas;
+
+    @Column(nullable = false)
+    private long atualizadas;
+
+    @Column(length = 500)
+    private String mensagem;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    // Two runs of the same job cannot advance the checkpoint concurrently
+    @Version
+    private Long version;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public String getFormato() {
+        return formato;
+    }
+
+    public void setFormato(String formato) {
+        this.formato = formato;
+    }
+
+    public StatusImportacao getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusImportacao status) {
+        this.status = status;
+    }
+
+    public long getLinhasProcessadas() {
+        return linhasProcessadas;
+    }
+
+    public void setLinhasProcessadas(long linhasProcessadas) {
+        this.linhasProcessadas = linhasProcessadas;
+    }
+
+    public long getAceitas() {
+        return aceitas;
+    }
+
+    public void setAceitas(long aceitas) {
+        this.aceitas = aceitas;
+    }
+
+    public long getRejeitadas() {
+        return rejeitadas;
+    }
+
+    public void setRejeitadas(long rejeitadas) {
+        this.rejeitadas = rejeitadas;
+    }
+
+    public long getInseridas() {
+        return inseridas;
+    }
+
+    public void setInseridas(long inseridas) {
+        this.inseridas = inseridas;
+    }
+
+    public long getAtualizadas() {
+        return atualizadas;
+    }
+
+    public void setAtualizadas(long atualizadas) {
+        this.atualizadas = atualizadas;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public void setCriadoEm(LocalDateTime criadoEm) {
+        this.criadoEm = criadoEm;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) {
+        this.atualizadoEm = atualizadoEm;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -2,12 +2,18 @@ package br.com.music.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import br.com.music.api.Config.MigrateOnlyRunner;
 
 @SpringBootApplication
+@EnableAsync
 public class MusicApiApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(MusicApiApplication.class, args);
+		SpringApplication application = new SpringApplication(MusicApiApplication.class);
+		application.addListeners(new MigrateOnlyRunner.WithoutWebServer());
+		application.run(args);
 	}
 
 }
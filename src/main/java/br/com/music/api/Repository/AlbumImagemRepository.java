@@ -1,8 +1,9 @@
 package br.com.music.api.Repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import br.com.music.api.Domain.AlbumImagem;
 
-public interface AlbumImagemRepository extends JpaRepository<AlbumImagem, Long> {
+public interface AlbumImagemRepository extends JpaRepository<AlbumImagem, Long>, JpaSpecificationExecutor<AlbumImagem> {
 
 }
@@ -1,9 +1,33 @@
 package br.com.music.api.Repository;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import br.com.music.api.Controller.dto.AlbumDto;
 import br.com.music.api.Domain.Album;
+import jakarta.persistence.QueryHint;
+
+public interface AlbumRepository extends JpaRepository<Album, Long>, JpaSpecificationExecutor<Album> {
 
-public interface AlbumRepository extends JpaRepository<Album, Long> {
+    // Album, artists and images in one select; the artists x images product is small per album
+    @EntityGraph(attributePaths = {"artistas", "artistas.artista", "imagens"})
+    @Query("select a from Album a where a.id = :id")
+    Optional<Album> findDetailById(@Param("id") Long id);
 
+    // Forward-only cursor for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportHints.FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new br.com.music.api.Controller.dto.AlbumDto(a.id, a.titulo, a.dataLancamento, a.ativo) "
+            + "from Album a order by a.id")
+    Stream<AlbumDto> streamAllForExport();
 }
@@ -0,0 +1,12 @@
+package br.com.music.api.Repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import br.com.music.api.Domain.ApiKey;
+
+public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
+
+    Optional<ApiKey> findByKeyHashAndAtivoTrue(String keyHash);
+}
@@ -1,9 +1,34 @@
 package br.com.music.api.Repository;
 
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import br.com.music.api.Controller.dto.ArtistaAlbumDto;
 import br.com.music.api.Domain.ArtistaAlbum;
+import jakarta.persistence.QueryHint;
 
-public interface ArtistaAlbumRepository extends JpaRepository<ArtistaAlbum, Long> {
+public interface ArtistaAlbumRepository extends JpaRepository<ArtistaAlbum, Long>, JpaSpecificationExecutor<ArtistaAlbum> {
 
-}
+    // The DTO carries the artist name and album title; fetch both in the page query instead of two lazy loads per row
+    @Override
+    @EntityGraph(attributePaths = {"artista", "album"})
+    Page<ArtistaAlbum> findAll(Specification<ArtistaAlbum> spec, Pageable pageable);
 
+    // Single join instead of two lazy loads per row; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportHints.FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new br.com.music.api.Controller.dto.ArtistaAlbumDto(aa.id, ar.id, al.id, ar.nome, al.titulo) "
+            + "from ArtistaAlbum aa join aa.artista ar join aa.album al order by aa.id")
+    Stream<ArtistaAlbumDto> streamAllForExport();
+}
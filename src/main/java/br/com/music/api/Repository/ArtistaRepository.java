@@ -1,8 +1,25 @@
 package br.com.music.api.Repository;
 
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import br.com.music.api.Controller.dto.ArtistaDto;
 import br.com.music.api.Domain.Artista;
+import jakarta.persistence.QueryHint;
 
-public interface ArtistaRepository extends JpaRepository<Artista, Long> {
+public interface ArtistaRepository extends JpaRepository<Artista, Long>, JpaSpecificationExecutor<Artista> {
 
+    // Forward-only cursor for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportHints.FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new br.com.music.api.Controller.dto.ArtistaDto(a.id, a.nome, cast(a.tipo as String), a.ativo) "
+            + "from Artista a order by a.id")
+    Stream<ArtistaDto> streamAllForExport();
 }
@@ -0,0 +1,90 @@
+package br.com.music.api.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import br.com.music.api.Domain.Album;
+import br.com.music.api.Domain.ArtistaAlbum;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Filters for the catalogue list endpoints. Each factory returns {@code null} when its parameter
+ * is absent, and {@link #allOf} drops those, so only the filters a client sends reach the SQL.
+ * Association ids ({@code album.id}) are compared on the foreign key column, without a join.
+ * Listings page through {@link #byIdLast}, so the page contents are deterministic.
+ */
+public final class CatalogSpecifications {
+
+    private CatalogSpecifications() {}
+
+    @SafeVarargs
+    public static <T> Specification<T> allOf(Specification<T>... specifications) {
+        List<Specification<T>> present = new ArrayList<>();
+        for (Specification<T> specification : specifications) {
+            if (specification != null) {
+                present.add(specification);
+            }
+        }
+        return Specification.allOf(present);
+    }
+
+    public static <T> Specification<T> equal(String path, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<Object> attribute = null;
+            for (String part : path.split("\\.")) {
+                attribute = attribute == null ? root.get(part) : attribute.get(part);
+            }
+            return cb.equal(attribute, value);
+        };
+    }
+
+    public static Specification<Album> lancadoEntre(LocalDate de, LocalDate ate) {
+        if (de == null && ate == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<LocalDate> data = root.get("dataLancamento");
+            if (de == null) {
+                return cb.lessThanOrEqualTo(data, ate);
+            }
+            return ate == null ? cb.greaterThanOrEqualTo(data, de) : cb.between(data, de, ate);
+        };
+    }
+
+    // Appends id as the last sort key, so rows with equal sort values (or no sort) keep the same
+    // order from one page to the next
+    public static Pageable byIdLast(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by("id"));
+        }
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+    }
+
+    // EXISTS instead of a join, so an album with several matching rows is still listed once
+    public static Specification<Album> doArtista(Long artistaId) {
+        if (artistaId == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> associacao = query.subquery(Long.class);
+            Root<ArtistaAlbum> aa = associacao.from(ArtistaAlbum.class);
+            associacao.select(aa.get("id"))
+                    .where(cb.equal(aa.get("album"), root), cb.equal(aa.get("artista").get("id"), artistaId));
+            return cb.exists(associacao);
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.music.api.Repository;
+
+/**
+ * Query hint values shared by the export cursors.
+ */
+final class ExportHints {
+
+    // Rows per round trip; the PostgreSQL driver only honours it inside a transaction
+    static final String FETCH_SIZE = "1000";
+
+    private ExportHints() {
+    }
+}
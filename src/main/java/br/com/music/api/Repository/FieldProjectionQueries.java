@@ -0,0 +1,107 @@
+package br.com.music.api.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Tuple queries that read only the requested attributes, for the {@code fields} parameter of the
+ * list endpoints, with the same filters as the entity listings. Fields are given as JSON name to
+ * entity attribute path; a dotted path such as {@code artista.nome} joins the association, while
+ * {@code artista.id} is read from the foreign key without a join.
+ */
+@Repository
+public class FieldProjectionQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> Page<Map<String, Object>> page(Class<T> entity, Specification<T> filter, Map<String, String> fields,
+                                              Pageable pageable) {
+        TypedQuery<Tuple> query = query(entity, filter, fields, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = query.getResultStream()
+                .map(tuple -> toMap(fields, tuple))
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entity, filter));
+    }
+
+    private <T> TypedQuery<Tuple> query(Class<T> entity, Specification<T> filter, Map<String, String> fields, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<T> root = cq.from(entity);
+
+        Map<String, Join<T, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String path : fields.values()) {
+            int dot = path.indexOf('.');
+            if (dot < 0) {
+                selections.add(root.get(path));
+                continue;
+            }
+            String association = path.substring(0, dot);
+            String attribute = path.substring(dot + 1);
+            if ("id".equals(attribute)) {
+                selections.add(root.get(association).get(attribute));
+            } else {
+                selections.add(joins.computeIfAbsent(association, name -> root.join(name)).get(attribute));
+            }
+        }
+
+        cq.multiselect(selections);
+        Predicate predicate = filter.toPredicate(root, cq, cb);
+        if (predicate != null) {
+            cq.where(predicate);
+        }
+        if (sort.isSorted()) {
+            cq.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(cq);
+    }
+
+    // Joins are on mandatory associations, so counting the filtered root alone gives the same total
+    private <T> long count(Class<T> entity, Specification<T> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<T> root = cq.from(entity);
+        cq.select(cb.count(root));
+        Predicate predicate = filter.toPredicate(root, cq, cb);
+        if (predicate != null) {
+            cq.where(predicate);
+        }
+        return entityManager.createQuery(cq).getSingleResult();
+    }
+
+    private static Map<String, Object> toMap(Map<String, String> fields, Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        int i = 0;
+        for (String name : fields.keySet()) {
+            row.put(name, tuple.get(i++));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.music.api.Repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import br.com.music.api.Domain.ImportJob;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+}
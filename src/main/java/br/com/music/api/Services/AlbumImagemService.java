@@ -4,26 +4,36 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import br.com.music.api.Controller.dto.AlbumImagemDto;
 import br.com.music.api.Domain.AlbumImagem;
 import br.com.music.api.Repository.AlbumImagemRepository;
+import br.com.music.api.Repository.CatalogSpecifications;
 
 @Service
 public class AlbumImagemService {
 
     private final AlbumImagemRepository repository;
     private final AlbumImagemMapper mapper;
+    private final CatalogVersions versions;
+    private final CatalogChanges changes;
 
-    public AlbumImagemService(AlbumImagemRepository repository, AlbumImagemMapper mapper) {
+    public AlbumImagemService(AlbumImagemRepository repository, AlbumImagemMapper mapper, CatalogVersions versions,
+                              CatalogChanges changes) {
         this.repository = repository;
         this.mapper = mapper;
+        this.versions = versions;
+        this.changes = changes;
     }
 
-    public List<AlbumImagemDto> list() {
-        return repository.findAll().stream().map(mapper::toDto).collect(Collectors.toList());
+    public Page<AlbumImagemDto> list(Long albumId, Pageable pageable) {
+        return repository.findAll(CatalogSpecifications.<AlbumImagem>equal("album.id", albumId),
+                        CatalogSpecifications.byIdLast(pageable))
+                .map(mapper::toDto);
     }
 
     public Optional<AlbumImagemDto> get(Long id) {
@@ -41,6 +51,8 @@ public class AlbumImagemService {
             entidade.setAlbum(mapper.toEntity(dto).getAlbum());
         }
         AlbumImagem saved = repository.save(entidade);
+        versions.bump(CatalogVersions.Table.ALBUM_IMAGEM);
+        changes.record(CatalogChanges.Entidade.ALBUM_IMAGEM, saved.getId(), CatalogChanges.Operacao.CRIADO);
         return mapper.toDto(saved);
     }
 
@@ -56,6 +68,8 @@ public class AlbumImagemService {
                         img.setAlbum(mapper.toEntity(dto).getAlbum());
                     }
                     AlbumImagem updated = repository.save(img);
+                    versions.bump(CatalogVersions.Table.ALBUM_IMAGEM);
+                    changes.record(CatalogChanges.Entidade.ALBUM_IMAGEM, updated.getId(), CatalogChanges.Operacao.ATUALIZADO);
                     return mapper.toDto(updated);
                 });
     }
@@ -64,6 +78,8 @@ public class AlbumImagemService {
     public boolean delete(Long id) {
         if (repository.existsById(id)) {
             repository.deleteById(id);
+            versions.bump(CatalogVersions.Table.ALBUM_IMAGEM);
+            changes.record(CatalogChanges.Entidade.ALBUM_IMAGEM, id, CatalogChanges.Operacao.REMOVIDO);
             return true;
         }
         return false;
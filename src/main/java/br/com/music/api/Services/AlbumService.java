@@ -1,39 +1,99 @@
 package br.com.music.api.Services;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.music.api.Controller.dto.AlbumDetailDto;
 import br.com.music.api.Controller.dto.AlbumDto;
+import br.com.music.api.Controller.dto.ArtistaDto;
 import br.com.music.api.Domain.Album;
+import br.com.music.api.Domain.AlbumImagem;
 import br.com.music.api.Repository.AlbumRepository;
+import br.com.music.api.Repository.CatalogSpecifications;
+import br.com.music.api.Repository.FieldProjectionQueries;
+import br.com.music.api.Services.notificacao.AlbumNotifier;
 
 @Service
 public class AlbumService {
 
+    static final FieldSelection FIELDS = FieldSelection.of(
+            "id", "id",
+            "titulo", "titulo",
+            "dataLancamento", "dataLancamento",
+            "ativo", "ativo");
+
     private final AlbumRepository repository;
     private final AlbumMapper mapper;
+    private final CatalogVersions versions;
+    private final CatalogChanges changes;
+    private final FieldProjectionQueries projections;
+    private final MinioStorageService storage;
+    private final SuggestService suggestions;
+    private final AlbumNotifier notifier;
 
-    public AlbumService(AlbumRepository repository, AlbumMapper mapper) {
+    public AlbumService(AlbumRepository repository, AlbumMapper mapper, CatalogVersions versions,
+                        CatalogChanges changes, FieldProjectionQueries projections, MinioStorageService storage, SuggestService suggestions,
+                        AlbumNotifier notifier) {
         this.repository = repository;
         this.mapper = mapper;
+        this.versions = versions;
+        this.changes = changes;
+        this.projections = projections;
+        this.storage = storage;
+        this.suggestions = suggestions;
+        this.notifier = notifier;
     }
 
-    public Page<AlbumDto> list(Pageable pageable) {
-        Page<Album> albums = repository.findAll(pageable);
+    public Page<AlbumDto> list(Specification<Album> filter, Pageable pageable) {
+        Page<Album> albums = repository.findAll(filter, CatalogSpecifications.byIdLast(pageable));
         return albums.map(mapper::toDto);
     }
 
+    // Reads only the selected columns; throws IllegalArgumentException for unknown fields
+    public Page<Map<String, Object>> list(Specification<Album> filter, Pageable pageable, String fields) {
+        return projections.page(Album.class, filter, FIELDS.select(fields), CatalogSpecifications.byIdLast(pageable));
+    }
+
+    public static Specification<Album> filter(Boolean ativo, LocalDate lancadoDe, LocalDate lancadoAte, Long artistaId) {
+        return CatalogSpecifications.allOf(
+                CatalogSpecifications.equal("ativo", ativo),
+                CatalogSpecifications.lancadoEntre(lancadoDe, lancadoAte),
+                CatalogSpecifications.doArtista(artistaId));
+    }
+
     public Optional<AlbumDto> get(Long id, Pageable pageable) {
         return repository.findById(id).map(mapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<AlbumDetailDto> detail(Long id) {
+        return repository.findDetailById(id).map(album -> new AlbumDetailDto(
+                album.getId(),
+                album.getTitulo(),
+                album.getDataLancamento(),
+                album.getAtivo(),
+                album.getArtistas().stream()
+                        .map(artistaAlbum -> ArtistaDto.fromEntity(artistaAlbum.getArtista()))
+                        .sorted(Comparator.comparing(ArtistaDto::getNome))
+                        .toList(),
+                album.getImagens().stream()
+                        .sorted(Comparator.comparing(AlbumImagem::getId))
+                        .map(imagem -> new AlbumDetailDto.Imagem(
+                                imagem.getId(),
+                                imagem.getContentType(),
+                                imagem.getTamanho(),
+                                storage.presignedUrl(imagem.getBucket(), imagem.getObjectKey())))
+                        .toList()));
+    }
+
     @Transactional
     public AlbumDto create(AlbumDto dto) {
         Album entidade = new Album();
@@ -41,7 +101,12 @@ public class AlbumService {
         entidade.setDataLancamento(dto.getDataLancamento());
         entidade.setAtivo(dto.getAtivo() == null ? true : dto.getAtivo());
         Album saved = repository.save(entidade);
-        return mapper.toDto(saved);
+        versions.bump(CatalogVersions.Table.ALBUM);
+        changes.record(CatalogChanges.Entidade.ALBUM, saved.getId(), CatalogChanges.Operacao.CRIADO);
+        suggestions.saved(SuggestService.Tipo.ALBUM, saved.getId(), saved.getTitulo(), saved.getAtivo());
+        AlbumDto created = mapper.toDto(saved);
+        notifier.created(created);
+        return created;
     }
 
     @Transactional
@@ -52,6 +117,9 @@ public class AlbumService {
                     album.setDataLancamento(dto.getDataLancamento());
                     album.setAtivo(dto.getAtivo() != null ? dto.getAtivo() : true);
                     Album updated = repository.save(album);
+                    versions.bump(CatalogVersions.Table.ALBUM);
+                    changes.record(CatalogChanges.Entidade.ALBUM, updated.getId(), CatalogChanges.Operacao.ATUALIZADO);
+                    suggestions.saved(SuggestService.Tipo.ALBUM, updated.getId(), updated.getTitulo(), updated.getAtivo());
                     return mapper.toDto(updated);
                 });
     }
@@ -60,6 +128,10 @@ public class AlbumService {
     public boolean delete(Long id) {
         if (repository.existsById(id)) {
             repository.deleteById(id);
+            // Associations and images are removed with the album
+            versions.bump(CatalogVersions.Table.ALBUM, CatalogVersions.Table.ARTISTA_ALBUM, CatalogVersions.Table.ALBUM_IMAGEM);
+            changes.record(CatalogChanges.Entidade.ALBUM, id, CatalogChanges.Operacao.REMOVIDO);
+            suggestions.deleted(SuggestService.Tipo.ALBUM, id);
             return true;
         }
         return false;
@@ -1,33 +1,73 @@
 package br.com.music.api.Services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import br.com.music.api.Controller.dto.ArtistaAlbumDto;
 import br.com.music.api.Domain.ArtistaAlbum;
 import br.com.music.api.Repository.ArtistaAlbumRepository;
+import br.com.music.api.Repository.CatalogSpecifications;
+import br.com.music.api.Repository.FieldProjectionQueries;
 
 @Service
 public class ArtistaAlbumService {
 
+    // Names and titles need a join; ids come from the foreign keys
+    static final FieldSelection FIELDS = FieldSelection.of(
+            "id", "id",
+            "artistaId", "artista.id",
+            "albumId", "album.id",
+            "artistaNome", "artista.nome",
+            "albumTitulo", "album.titulo");
+
     private final ArtistaAlbumRepository repository;
     private final ArtistaAlbumMapper mapper;
+    private final CatalogVersions versions;
+    private final CatalogChanges changes;
+    private final FieldProjectionQueries projections;
+    private final SuggestService suggestions;
 
-    public ArtistaAlbumService(ArtistaAlbumRepository repository, ArtistaAlbumMapper mapper) {
+    public ArtistaAlbumService(ArtistaAlbumRepository repository, ArtistaAlbumMapper mapper, CatalogVersions versions,
+                               CatalogChanges changes, FieldProjectionQueries projections, SuggestService suggestions) {
         this.repository = repository;
         this.mapper = mapper;
+        this.versions = versions;
+        this.changes = changes;
+        this.projections = projections;
+        this.suggestions = suggestions;
+    }
+
+    public Page<ArtistaAlbumDto> list(Specification<ArtistaAlbum> filter, String order, Pageable pageable) {
+        return repository.findAll(filter, ordered(pageable, order)).map(mapper::toDto);
+    }
+
+    // Reads only the selected columns; throws IllegalArgumentException for unknown fields
+    public Page<Map<String, Object>> list(Specification<ArtistaAlbum> filter, String order, Pageable pageable,
+                                          String fields) {
+        return projections.page(ArtistaAlbum.class, filter, FIELDS.select(fields), ordered(pageable, order));
     }
 
-    public List<ArtistaAlbumDto> list(String order) {
+    public static Specification<ArtistaAlbum> filter(Long artistaId, Long albumId) {
+        return CatalogSpecifications.allOf(
+                CatalogSpecifications.equal("artista.id", artistaId),
+                CatalogSpecifications.equal("album.id", albumId));
+    }
+
+    private static Pageable ordered(Pageable pageable, String order) {
         Sort sort = "desc".equalsIgnoreCase(order) 
             ? Sort.by("id").descending() 
             : Sort.by("id").ascending();
-        return repository.findAll(sort).stream().map(mapper::toDto).collect(Collectors.toList());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
 
     public Optional<ArtistaAlbumDto> get(Long id) {
@@ -44,6 +84,9 @@ public class ArtistaAlbumService {
             entidade.setAlbum(mapper.toEntity(dto).getAlbum());
         }
         ArtistaAlbum saved = repository.save(entidade);
+        versions.bump(CatalogVersions.Table.ARTISTA_ALBUM);
+        changes.record(CatalogChanges.Entidade.ARTISTA_ALBUM, saved.getId(), CatalogChanges.Operacao.CRIADO);
+        suggestions.linked(saved.getArtista().getId(), saved.getAlbum().getId(), 1);
         return mapper.toDto(saved);
     }
 
@@ -51,6 +94,8 @@ public class ArtistaAlbumService {
     public Optional<ArtistaAlbumDto> update(Long id, ArtistaAlbumDto dto) {
         return repository.findById(id)
                 .map(artistaAlbum -> {
+                    long artistaAnterior = artistaAlbum.getArtista().getId();
+                    long albumAnterior = artistaAlbum.getAlbum().getId();
                     if (dto.getArtistaId() != null) {
                         artistaAlbum.setArtista(mapper.toEntity(dto).getArtista());
                     }
@@ -58,16 +103,24 @@ public class ArtistaAlbumService {
                         artistaAlbum.setAlbum(mapper.toEntity(dto).getAlbum());
                     }
                     ArtistaAlbum updated = repository.save(artistaAlbum);
+                    versions.bump(CatalogVersions.Table.ARTISTA_ALBUM);
+                    changes.record(CatalogChanges.Entidade.ARTISTA_ALBUM, updated.getId(), CatalogChanges.Operacao.ATUALIZADO);
+                    suggestions.linked(artistaAnterior, albumAnterior, -1);
+                    suggestions.linked(updated.getArtista().getId(), updated.getAlbum().getId(), 1);
                     return mapper.toDto(updated);
                 });
     }
 
     @Transactional
     public boolean delete(Long id) {
-        if (repository.existsById(id)) {
-            repository.deleteById(id);
-            return true;
-        }
-        return false;
+        return repository.findById(id)
+                .map(artistaAlbum -> {
+                    repository.delete(artistaAlbum);
+                    versions.bump(CatalogVersions.Table.ARTISTA_ALBUM);
+                    changes.record(CatalogChanges.Entidade.ARTISTA_ALBUM, id, CatalogChanges.Operacao.REMOVIDO);
+                    suggestions.linked(artistaAlbum.getArtista().getId(), artistaAlbum.getAlbum().getId(), -1);
+                    return true;
+                })
+                .orElse(false);
     }
 }
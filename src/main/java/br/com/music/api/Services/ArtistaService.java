@@ -1,35 +1,76 @@
 package br.com.music.api.Services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import br.com.music.api.Controller.dto.ArtistaDto;
 import br.com.music.api.Domain.Artista;
+import br.com.music.api.Domain.Enums.TipoArtista;
 import br.com.music.api.Repository.ArtistaRepository;
+import br.com.music.api.Repository.CatalogSpecifications;
+import br.com.music.api.Repository.FieldProjectionQueries;
 
 @Service
 public class ArtistaService {
 
+    static final FieldSelection FIELDS = FieldSelection.of(
+            "id", "id",
+            "nome", "nome",
+            "tipo", "tipo",
+            "ativo", "ativo");
+
     private final ArtistaRepository repository;
     private final ArtistaMapper mapper;
-    public ArtistaService(ArtistaRepository repository, ArtistaMapper mapper) {
+    private final CatalogVersions versions;
+    private final CatalogChanges changes;
+    private final FieldProjectionQueries projections;
+    private final SuggestService suggestions;
+
+    public ArtistaService(ArtistaRepository repository, ArtistaMapper mapper, CatalogVersions versions,
+                          CatalogChanges changes, FieldProjectionQueries projections, SuggestService suggestions) {
         this.repository = repository;
         this.mapper = mapper;
+        this.versions = versions;
+        this.changes = changes;
+        this.projections = projections;
+        this.suggestions = suggestions;
+    }
+
+    public Page<ArtistaDto> list(Specification<Artista> filter, String sortArtistaNome, Pageable pageable) {
+        return repository.findAll(filter, sorted(pageable, sortArtistaNome)).map(mapper::toDto);
+    }
+
+    // Reads only the selected columns; throws IllegalArgumentException for unknown fields
+    public Page<Map<String, Object>> list(Specification<Artista> filter, String sortArtistaNome, Pageable pageable,
+                                          String fields) {
+        return projections.page(Artista.class, filter, FIELDS.select(fields), sorted(pageable, sortArtistaNome));
+    }
+
+    public static Specification<Artista> filter(TipoArtista tipo, Boolean ativo) {
+        return CatalogSpecifications.allOf(
+                CatalogSpecifications.equal("tipo", tipo),
+                CatalogSpecifications.equal("ativo", ativo));
     }
 
-    public List<ArtistaDto> list(String sortArtistaNome) {
-        if (sortArtistaNome != null && !sortArtistaNome.trim().isEmpty()) {
-            Sort sort = sortArtistaNome.equalsIgnoreCase("asc") 
-                ? Sort.by(Sort.Direction.ASC, "nome")
-                : Sort.by(Sort.Direction.DESC, "nome");
-            return repository.findAll(sort).stream().map(mapper::toDto).collect(Collectors.toList());
+    // sortArtistaNome, when given, takes precedence over the pageable's sort
+    private static Pageable sorted(Pageable pageable, String sortArtistaNome) {
+        if (sortArtistaNome == null || sortArtistaNome.trim().isEmpty()) {
+            return CatalogSpecifications.byIdLast(pageable);
         }
-        return repository.findAll().stream().map(mapper::toDto).collect(Collectors.toList());
+        Sort sort = sortArtistaNome.equalsIgnoreCase("asc")
+            ? Sort.by(Sort.Direction.ASC, "nome")
+            : Sort.by(Sort.Direction.DESC, "nome");
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort.and(Sort.by("id")));
     }
 
     public Optional<ArtistaDto> get(Long id, String sortArtistaNome) {
@@ -43,6 +84,9 @@ public class ArtistaService {
         entidade.setTipo(mapper.stringToEnum(dto.getTipo()));
         entidade.setAtivo(dto.getAtivo() == null ? true : dto.getAtivo());
         Artista saved = repository.save(entidade);
+        versions.bump(CatalogVersions.Table.ARTISTA);
+        changes.record(CatalogChanges.Entidade.ARTISTA, saved.getId(), CatalogChanges.Operacao.CRIADO);
+        suggestions.saved(SuggestService.Tipo.ARTISTA, saved.getId(), saved.getNome(), saved.getAtivo());
         return mapper.toDto(saved);
     }
 
@@ -54,6 +98,9 @@ public class ArtistaService {
                     artista.setTipo(mapper.stringToEnum(dto.getTipo()));
                     artista.setAtivo(dto.getAtivo() != null ? dto.getAtivo() : true);
                     Artista updated = repository.save(artista);
+                    versions.bump(CatalogVersions.Table.ARTISTA);
+                    changes.record(CatalogChanges.Entidade.ARTISTA, updated.getId(), CatalogChanges.Operacao.ATUALIZADO);
+                    suggestions.saved(SuggestService.Tipo.ARTISTA, updated.getId(), updated.getNome(), updated.getAtivo());
                     return mapper.toDto(updated);
                 });
     }
@@ -62,6 +109,9 @@ public class ArtistaService {
     public boolean delete(Long id) {
         if (repository.existsById(id)) {
             repository.deleteById(id);
+            versions.bump(CatalogVersions.Table.ARTISTA);
+            changes.record(CatalogChanges.Entidade.ARTISTA, id, CatalogChanges.Operacao.REMOVIDO);
+            suggestions.deleted(SuggestService.Tipo.ARTISTA, id);
             return true;
         }
         return false;
@@ -0,0 +1,56 @@
+package br.com.music.api.Services;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transactional outbox of catalogue writes, read by {@link ChangeFeed} for {@code /v1/changes}.
+ * Service write methods record each change next to their {@link CatalogVersions} bump; the row
+ * is inserted on the connection of the surrounding transaction, so it commits or rolls back with
+ * the write itself.
+ */
+@Component
+public class CatalogChanges {
+
+    public enum Entidade {
+        ARTISTA,
+        ALBUM,
+        ARTISTA_ALBUM,
+        ALBUM_IMAGEM
+    }
+
+    public enum Operacao {
+        CRIADO,
+        ATUALIZADO,
+        REMOVIDO,
+        // Bulk import: no single id, consumers re-read the entity listing
+        IMPORTADO
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeFeed feed;
+
+    public CatalogChanges(JdbcTemplate jdbcTemplate, ChangeFeed feed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.feed = feed;
+    }
+
+    public void record(Entidade entidade, Long id, Operacao operacao) {
+        jdbcTemplate.update("INSERT INTO catalog_change (entidade, entidade_id, operacao) VALUES (?, ?, ?)",
+                entidade.name(), id, operacao.name());
+
+        // Subscribers on this instance hear about it right away instead of at the next poll
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    feed.wakeUp();
+                }
+            });
+        } else {
+            feed.wakeUp();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.music.api.Services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.music.api.Controller.dto.AlbumDto;
+import br.com.music.api.Controller.dto.ArtistaAlbumDto;
+import br.com.music.api.Controller.dto.ArtistaDto;
+import br.com.music.api.Repository.AlbumRepository;
+import br.com.music.api.Repository.ArtistaAlbumRepository;
+import br.com.music.api.Repository.ArtistaRepository;
+
+/**
+ * Writes whole tables as newline-delimited JSON straight from a database cursor. Rows are DTO
+ * projections, so nothing accumulates in the persistence context and memory stays flat.
+ */
+@Service
+public class CatalogExportService {
+
+    public enum Dataset {
+        ARTISTAS("artistas"),
+        ALBUNS("albuns"),
+        ARTISTAS_ALBUNS("artistas-albuns");
+
+        private final String path;
+
+        Dataset(String path) {
+            this.path = path;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public static Optional<Dataset> fromPath(String path) {
+            for (Dataset dataset : values()) {
+                if (dataset.path.equals(path)) {
+                    return Optional.of(dataset);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final ArtistaRepository artistaRepository;
+    private final AlbumRepository albumRepository;
+    private final ArtistaAlbumRepository artistaAlbumRepository;
+    private final ObjectMapper objectMapper;
+
+    public CatalogExportService(ArtistaRepository artistaRepository, AlbumRepository albumRepository,
+                                ArtistaAlbumRepository artistaAlbumRepository, ObjectMapper objectMapper) {
+        this.artistaRepository = artistaRepository;
+        this.albumRepository = albumRepository;
+        this.artistaAlbumRepository = artistaAlbumRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams the dataset to {@code out} and returns the number of rows written. The stream is
+     * flushed but not closed.
+     */
+    @Transactional(readOnly = true)
+    public long export(Dataset dataset, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Rows are separated by the newline written after each object, not by Jackson
+            generator.setRootValueSeparator(null);
+            long rows = switch (dataset) {
+                case ARTISTAS -> writeRows(artistaRepository.streamAllForExport(), generator, CatalogExportService::writeArtista);
+                case ALBUNS -> writeRows(albumRepository.streamAllForExport(), generator, CatalogExportService::writeAlbum);
+                case ARTISTAS_ALBUNS -> writeRows(artistaAlbumRepository.streamAllForExport(), generator,
+                        CatalogExportService::writeArtistaAlbum);
+            };
+            generator.flush();
+            return rows;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row, JsonGenerator generator) throws IOException;
+    }
+
+    private static <T> long writeRows(Stream<T> rows, JsonGenerator generator, RowWriter<T> writer) throws IOException {
+        long count = 0;
+        try (rows) {
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next(), generator);
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void writeArtista(ArtistaDto artista, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, "id", artista.getId());
+        generator.writeStringField("nome", artista.getNome());
+        generator.writeStringField("tipo", artista.getTipo());
+        writeBoolean(generator, "ativo", artista.getAtivo());
+        generator.writeEndObject();
+    }
+
+    private static void writeAlbum(AlbumDto album, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, "id", album.getId());
+        generator.writeStringField("titulo", album.getTitulo());
+        generator.writeStringField("dataLancamento",
+                album.getDataLancamento() == null ? null : album.getDataLancamento().toString());
+        writeBoolean(generator, "ativo", album.getAtivo());
+        generator.writeEndObject();
+    }
+
+    private static void writeArtistaAlbum(ArtistaAlbumDto assoc, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, "id", assoc.getId());
+        writeNumber(generator, "artistaId", assoc.getArtistaId());
+        writeNumber(generator, "albumId", assoc.getAlbumId());
+        generator.writeStringField("artistaNome", assoc.getArtistaNome());
+        generator.writeStringField("albumTitulo", assoc.getAlbumTitulo());
+        generator.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator generator, String field, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value.longValue());
+        }
+    }
+
+    private static void writeBoolean(JsonGenerator generator, String field, Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeBooleanField(field, value);
+        }
+    }
+}
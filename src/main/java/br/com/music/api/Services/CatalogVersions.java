@@ -0,0 +1,146 @@
+package br.com.music.api.Services;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-table version counters for the catalogue. Service write methods bump the tables they touch;
+ * inside a transaction the bump happens after commit, so a version never advances for data that
+ * is not visible yet.
+ * <p>
+ * With a shared {@link Counter} (Redis) every bump takes the next version from it, so all
+ * instances hand out the same tag for the same data, across restarts too. Each bump is published
+ * as a {@link Bumped} event, which the Redis fan-out relays so the other instances {@link #apply}
+ * it without waiting for a write of their own. Without a counter, or after it failed, versions are
+ * counted locally and tags are prefixed with the instance start time so they never collide.
+ */
+@Component
+public class CatalogVersions {
+
+    public enum Table {
+        ARTISTA,
+        ALBUM,
+        ARTISTA_ALBUM,
+        ALBUM_IMAGEM,
+        REGIONAL
+    }
+
+    /** Versions shared by every instance. */
+    public interface Counter {
+
+        /** Advances the table's version and returns it. */
+        long increment(Table table);
+
+        long current(Table table);
+    }
+
+    /** Tables bumped by a write committed on this instance, with their shared versions. */
+    public record Bumped(Table[] tables, long[] versions) {}
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogVersions.class);
+
+    // Tags from shared versions are the same on every instance
+    private static final String SHARED = "s";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLongArray versions = new AtomicLongArray(Table.values().length);
+    private final ApplicationEventPublisher events;
+    private final Counter counter;
+    private volatile boolean shared;
+
+    public CatalogVersions() {
+        this(event -> { });
+    }
+
+    public CatalogVersions(ApplicationEventPublisher events) {
+        this(events, (Counter) null);
+    }
+
+    @Autowired
+    public CatalogVersions(ApplicationEventPublisher events, ObjectProvider<Counter> counter) {
+        this(events, counter.getIfAvailable());
+    }
+
+    public CatalogVersions(ApplicationEventPublisher events, Counter counter) {
+        this.events = events;
+        this.counter = counter;
+        this.shared = counter != null && seed(counter);
+    }
+
+    public void bump(Table... tables) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpNow(tables);
+                }
+            });
+        } else {
+            bumpNow(tables);
+        }
+    }
+
+    /** Applies a shared version bumped on another instance; not published again. */
+    public void apply(Table table, long version) {
+        if (shared) {
+            versions.accumulateAndGet(table.ordinal(), version, Math::max);
+        } else {
+            // Local versions no longer follow the shared ones, so only moving on keeps the tag changing
+            versions.incrementAndGet(table.ordinal());
+        }
+    }
+
+    public long get(Table table) {
+        return versions.get(table.ordinal());
+    }
+
+    /** Opaque tag that changes whenever any of the given tables changes. */
+    public String tag(Table... tables) {
+        StringBuilder tag = new StringBuilder(shared ? SHARED : epoch);
+        for (Table table : tables) {
+            tag.append('.').append(Long.toString(versions.get(table.ordinal()), 36));
+        }
+        return tag.toString();
+    }
+
+    private boolean seed(Counter counter) {
+        try {
+            for (Table table : Table.values()) {
+                versions.set(table.ordinal(), counter.current(table));
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Could not read the shared catalogue versions, counting locally: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void bumpNow(Table[] tables) {
+        if (shared) {
+            try {
+                long[] bumped = new long[tables.length];
+                for (int i = 0; i < tables.length; i++) {
+                    bumped[i] = counter.increment(tables[i]);
+                    versions.accumulateAndGet(tables[i].ordinal(), bumped[i], Math::max);
+                }
+                events.publishEvent(new Bumped(tables, bumped));
+                return;
+            } catch (RuntimeException e) {
+                // Until restart: a local version must never be taken for a shared one
+                log.warn("Could not bump the shared catalogue versions, counting locally: {}", e.getMessage());
+                shared = false;
+            }
+        }
+        for (Table table : tables) {
+            versions.incrementAndGet(table.ordinal());
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package br.com.music.api.Services;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.music.api.Controller.dto.CatalogChangeDto;
+
+/**
+ * Tails the {@code catalog_change} outbox for the {@code /v1/changes} Server-Sent Events stream.
+ * <p>
+ * One virtual thread per instance polls the table every {@code poll-interval}, or as soon as a
+ * local write commits, and keeps the newest {@code buffer-size} changes serialized in memory; live
+ * subscribers are served from that buffer, so the database sees the same query no matter how many
+ * streams are open. Subscribers resuming from further back read the table in batches of
+ * {@code batch-size} until they catch up with the buffer. The same thread deletes changes older
+ * than {@code retention} every {@code prune-interval}, and records the newest position it deleted
+ * (the watermark) so a resuming client is only told to reset when it actually missed a change.
+ * <p>
+ * Positions are {@code (txid, id)}: a change only becomes readable once every transaction that
+ * started before it has finished, so a cursor never skips a row committed late by a concurrent
+ * writer. Changes written on other instances arrive within one poll interval.
+ */
+@Component
+public class ChangeFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    private static final String COLUMNS = "SELECT txid::text AS txid, id, entidade, entidade_id, operacao, criado_em FROM catalog_change ";
+
+    // Transactions below the snapshot xmin are all finished: nothing can commit behind this point any more
+    private static final String POLL = COLUMNS
+            + "WHERE (txid, id) > (CAST(? AS xid8), ?) AND txid < pg_snapshot_xmin(pg_current_snapshot()) "
+            + "ORDER BY txid, id LIMIT ?";
+
+    private static final String RANGE = COLUMNS
+            + "WHERE (txid, id) > (CAST(? AS xid8), ?) AND (txid, id) <= (CAST(? AS xid8), ?) "
+            + "ORDER BY txid, id LIMIT ?";
+
+    private static final String LATEST = "SELECT txid::text AS txid, id FROM catalog_change "
+            + "WHERE txid < pg_snapshot_xmin(pg_current_snapshot()) ORDER BY txid DESC, id DESC LIMIT 1";
+
+    private static final String WATERMARK = "SELECT txid::text AS txid, change_id AS id FROM catalog_change_poda";
+
+    // One batch; the watermark CTE runs even though nothing selects from it
+    private static final String PRUNE = """
+            WITH removed AS (
+                DELETE FROM catalog_change WHERE id IN (SELECT id FROM catalog_change WHERE criado_em < ? LIMIT ?)
+                RETURNING txid, id
+            ), watermark AS (
+                UPDATE catalog_change_poda p SET txid = r.txid, change_id = r.id
+                FROM (SELECT txid, id FROM removed ORDER BY txid DESC, id DESC LIMIT 1) r
+                WHERE (r.txid, r.id) > (p.txid, p.change_id)
+            )
+            SELECT count(*) FROM removed
+            """;
+
+    /** Position in the feed, sent as the SSE event id {@code <txid>-<id>}. */
+    public record Cursor(long txid, long id) implements Comparable<Cursor> {
+
+        /** Before the oldest retained change. */
+        public static final Cursor START = new Cursor(0, 0);
+
+        public static Cursor parse(String value) {
+            int dash = value.indexOf('-');
+            if (dash <= 0) {
+                throw new IllegalArgumentException("Invalid change id '" + value + "', expected <txid>-<id>");
+            }
+            try {
+                Cursor cursor = new Cursor(Long.parseLong(value.substring(0, dash)), Long.parseLong(value.substring(dash + 1)));
+                if (cursor.txid < 0 || cursor.id < 0) {
+                    throw new IllegalArgumentException("Invalid change id '" + value + "', expected <txid>-<id>");
+                }
+                return cursor;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid change id '" + value + "', expected <txid>-<id>", e);
+            }
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int byTxid = Long.compare(txid, other.txid);
+            return byTxid != 0 ? byTxid : Long.compare(id, other.id);
+        }
+
+        @Override
+        public String toString() {
+            return txid + "-" + id;
+        }
+    }
+
+    /** One outbox row, serialized once for every subscriber. */
+    record Change(Cursor cursor, String json) {}
+
+    /** What {@link #next} read, and where the caller's next read starts. */
+    record Batch(List<Change> changes, Cursor position) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration pollInterval;
+    private final Duration keepalive;
+    private final Duration retention;
+    private final Duration pruneInterval;
+    private final int batchSize;
+    private final int bufferSize;
+    private final boolean autoStartup;
+
+    private final RowMapper<Change> rowMapper = this::change;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    // Guards the buffer; subscribers wait on advanced, the poller on pollRequested
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition advanced = lock.newCondition();
+    private final Condition pollRequested = lock.newCondition();
+    private final ArrayDeque<Change> buffer = new ArrayDeque<>();
+    // Every change in (floor, head] is in the buffer
+    private Cursor floor = Cursor.START;
+    private volatile Cursor head = Cursor.START;
+    private boolean wakeRequested;
+
+    private volatile Thread poller;
+    private long nextPruneAt;
+
+    public ChangeFeed(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                      @Value("${app.changes.poll-interval:1s}") Duration pollInterval,
+                      @Value("${app.changes.keepalive:15s}") Duration keepalive,
+                      @Value("${app.changes.retention:7d}") Duration retention,
+                      @Value("${app.changes.prune-interval:1h}") Duration pruneInterval,
+                      @Value("${app.changes.batch-size:500}") int batchSize,
+                      @Value("${app.changes.buffer-size:1024}") int bufferSize,
+                      @Value("${app.migrate-only:false}") boolean migrateOnly) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.pollInterval = pollInterval;
+        this.keepalive = keepalive;
+        this.retention = retention;
+        this.pruneInterval = pruneInterval;
+        this.batchSize = batchSize;
+        this.bufferSize = bufferSize;
+        // The migration job exits right after startup; no poller for it
+        this.autoStartup = !migrateOnly;
+    }
+
+    /** The newest change visible to subscribers. */
+    public Cursor head() {
+        return head;
+    }
+
+    /**
+     * Whether resuming after {@code cursor} loses nothing: no change after it has been deleted by
+     * retention. The cursor's own row may be gone. {@link Cursor#START} asks for whatever is retained.
+     */
+    public boolean canResumeFrom(Cursor cursor) {
+        return cursor.equals(Cursor.START) || watermark().compareTo(cursor) <= 0;
+    }
+
+    /**
+     * Streams every change after {@code after} to the emitter, on a virtual thread of its own, until
+     * the client goes away or the emitter times out.
+     */
+    public void subscribe(SseEmitter emitter, Cursor after) {
+        Subscription subscription = new Subscription(emitter, after);
+        subscriptions.add(subscription);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        subscription.thread = Thread.ofVirtual().name("changes-subscriber").start(subscription::run);
+    }
+
+    /** Polls now instead of at the next interval; called after a local write commits. */
+    public void wakeUp() {
+        lock.lock();
+        try {
+            wakeRequested = true;
+            pollRequested.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public void start() {
+        List<Cursor> latest = jdbcTemplate.query(LATEST, this::cursor);
+        // With every row pruned the table is empty, but positions up to the watermark are still taken
+        Cursor pruned = watermark();
+        lock.lock();
+        try {
+            head = latest.isEmpty() || latest.get(0).compareTo(pruned) < 0 ? pruned : latest.get(0);
+            floor = head;
+        } finally {
+            lock.unlock();
+        }
+        nextPruneAt = System.nanoTime();
+        poller = Thread.ofVirtual().name("changes-poller").start(this::pollLoop);
+    }
+
+    @Override
+    public void stop() {
+        Thread running = poller;
+        poller = null;
+        if (running != null) {
+            running.interrupt();
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.emitter.complete();
+            subscription.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return poller != null;
+    }
+
+    private void pollLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                poll();
+                if (System.nanoTime() - nextPruneAt >= 0) {
+                    prune();
+                    nextPruneAt = System.nanoTime() + pruneInterval.toNanos();
+                }
+            } catch (DataAccessException e) {
+                log.warn("Change feed poll failed, retrying in {}", pollInterval, e);
+            }
+            lock.lock();
+            try {
+                long remaining = pollInterval.toNanos();
+                while (!wakeRequested && remaining > 0) {
+                    remaining = pollRequested.awaitNanos(remaining);
+                }
+                wakeRequested = false;
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    void poll() {
+        Cursor from = head;
+        List<Change> rows;
+        do {
+            rows = jdbcTemplate.query(POLL, rowMapper, Long.toString(from.txid()), from.id(), batchSize);
+            if (!rows.isEmpty()) {
+                append(rows);
+                from = rows.get(rows.size() - 1).cursor();
+            }
+        } while (rows.size() == batchSize);
+    }
+
+    private void append(List<Change> rows) {
+        lock.lock();
+        try {
+            buffer.addAll(rows);
+            while (buffer.size() > bufferSize) {
+                floor = buffer.removeFirst().cursor();
+            }
+            head = rows.get(rows.size() - 1).cursor();
+            advanced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void prune() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        long removed = 0;
+        long deleted;
+        do {
+            deleted = jdbcTemplate.queryForObject(PRUNE, Long.class, cutoff, batchSize);
+            removed += deleted;
+        } while (deleted == batchSize && !Thread.currentThread().isInterrupted());
+        if (removed > 0) {
+            log.info("Pruned {} catalogue changes older than {}", removed, retention);
+        }
+    }
+
+    Cursor watermark() {
+        return jdbcTemplate.queryForObject(WATERMARK, this::cursor);
+    }
+
+    /**
+     * The changes right after {@code after}, at most one batch. Waits up to {@code wait} when the
+     * caller is already at the head; no changes and the same position means nothing changed in that
+     * time. A short catch-up read covers everything up to the buffer, so its position moves to the
+     * buffer's floor even when retention left no rows to return.
+     */
+    Batch next(Cursor after, Duration wait) throws InterruptedException {
+        Cursor upTo;
+        lock.lock();
+        try {
+            long remaining = wait.toNanos();
+            while (after.compareTo(head) >= 0 && remaining > 0) {
+                remaining = advanced.awaitNanos(remaining);
+            }
+            if (after.compareTo(head) >= 0) {
+                return new Batch(List.of(), after);
+            }
+            if (after.compareTo(floor) >= 0) {
+                List<Change> batch = new ArrayList<>();
+                for (Change change : buffer) {
+                    if (change.cursor().compareTo(after) > 0) {
+                        batch.add(change);
+                        if (batch.size() == batchSize) {
+                            break;
+                        }
+                    }
+                }
+                return new Batch(batch, batch.get(batch.size() - 1).cursor());
+            }
+            upTo = floor;
+        } finally {
+            lock.unlock();
+        }
+        // Behind the buffer: catch up from the table, without holding the lock
+        List<Change> rows = jdbcTemplate.query(RANGE, rowMapper, Long.toString(after.txid()), after.id(),
+                Long.toString(upTo.txid()), upTo.id(), batchSize);
+        return new Batch(rows, rows.size() < batchSize ? upTo : rows.get(rows.size() - 1).cursor());
+    }
+
+    private Cursor cursor(ResultSet rs, int rowNum) throws SQLException {
+        return new Cursor(Long.parseLong(rs.getString("txid")), rs.getLong("id"));
+    }
+
+    private Change change(ResultSet rs, int rowNum) throws SQLException {
+        Cursor cursor = cursor(rs, rowNum);
+        long entidadeId = rs.getLong("entidade_id");
+        Long id = rs.wasNull() ? null : entidadeId;
+        Timestamp criadoEm = rs.getTimestamp("criado_em");
+        CatalogChangeDto dto = new CatalogChangeDto(rs.getString("entidade"), id, rs.getString("operacao"),
+                criadoEm == null ? null : criadoEm.toLocalDateTime());
+        try {
+            return new Change(cursor, objectMapper.writeValueAsString(dto));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize change " + cursor, e);
+        }
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private Cursor position;
+        private volatile Thread thread;
+        private volatile boolean closed;
+
+        Subscription(SseEmitter emitter, Cursor after) {
+            this.emitter = emitter;
+            this.position = after;
+        }
+
+        void run() {
+            try {
+                while (!closed) {
+                    Batch batch = next(position, keepalive);
+                    if (batch.changes().isEmpty()) {
+                        if (batch.position().equals(position)) {
+                            emitter.send(SseEmitter.event().comment("keepalive"));
+                        }
+                        // Otherwise a catch-up found its range pruned and moved on to the buffer
+                        position = batch.position();
+                        continue;
+                    }
+                    // The whole batch goes out in one write and one flush
+                    Set<ResponseBodyEmitter.DataWithMediaType> events = new LinkedHashSet<>();
+                    for (Change change : batch.changes()) {
+                        events.addAll(SseEmitter.event()
+                                .id(change.cursor().toString())
+                                .name("change")
+                                .data(change.json(), MediaType.APPLICATION_JSON)
+                                .build());
+                    }
+                    emitter.send(events);
+                    position = batch.position();
+                }
+            } catch (InterruptedException e) {
+                // Closed by the emitter callbacks or on shutdown
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                emitter.completeWithError(e);
+            } catch (DataAccessException e) {
+                log.warn("Change feed catch-up read failed at {}", position, e);
+                emitter.completeWithError(e);
+            } finally {
+                subscriptions.remove(this);
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscriptions.remove(this);
+            Thread running = thread;
+            if (running != null && running != Thread.currentThread()) {
+                running.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.music.api.Services;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fields a DTO exposes to the {@code fields} parameter, mapped to their entity attribute paths.
+ * A selection keeps the DTO's field order, so the same request always renders the same JSON.
+ */
+public final class FieldSelection {
+
+    private final Map<String, String> paths;
+
+    private FieldSelection(Map<String, String> paths) {
+        this.paths = Collections.unmodifiableMap(paths);
+    }
+
+    // Pairs of JSON field name and entity attribute path
+    public static FieldSelection of(String... namesAndPaths) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndPaths.length; i += 2) {
+            paths.put(namesAndPaths[i], namesAndPaths[i + 1]);
+        }
+        return new FieldSelection(paths);
+    }
+
+    public Map<String, String> select(String fields) {
+        Set<String> requested = new HashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!paths.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "'; available: " + String.join(",", paths.keySet()));
+            }
+            requested.add(name);
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required; available: " + String.join(",", paths.keySet()));
+        }
+
+        Map<String, String> selected = new LinkedHashMap<>();
+        paths.forEach((name, path) -> {
+            if (requested.contains(name)) {
+                selected.put(name, path);
+            }
+        });
+        return selected;
+    }
+}
@@ -3,6 +3,7 @@ package br.com.music.api.Services;
 import io.minio.GetObjectArgs;
 import io.minio.MinioClient;
 import io.minio.StatObjectArgs;
+import br.com.music.api.Services.minIO.MinioMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,13 +16,16 @@ public class ImageService {
 
     private final MinioStorageService minioStorageService;
     private final MinioClient minioClient;
+    private final MinioMetrics minioMetrics;
     private final String bucket;
 
     public ImageService(MinioStorageService minioStorageService, 
                        MinioClient minioClient,
+                       MinioMetrics minioMetrics,
                        @Value("${minio.bucket.name}") String bucket) {
         this.minioStorageService = minioStorageService;
         this.minioClient = minioClient;
+        this.minioMetrics = minioMetrics;
         this.bucket = bucket;
     }
 
@@ -38,17 +42,21 @@ public class ImageService {
     }
 
     public ImageData download(String id) throws Exception {
-        var stat = minioClient.statObject(
+        var stat = minioMetrics.record("stat", () -> minioClient.statObject(
                 StatObjectArgs.builder().bucket(bucket).object(id).build()
-        );
-
-        try (InputStream in = minioClient.getObject(
-                GetObjectArgs.builder().bucket(bucket).object(id).build());
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            in.transferTo(baos);
-            String contentType = stat.contentType();
-            return new ImageData(baos.toByteArray(), contentType == null ? "application/octet-stream" : contentType);
-        }
+        ));
+
+        byte[] data = minioMetrics.record("get", () -> {
+            try (InputStream in = minioClient.getObject(
+                    GetObjectArgs.builder().bucket(bucket).object(id).build());
+                 ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+                in.transferTo(baos);
+                return baos.toByteArray();
+            }
+        });
+        minioMetrics.transferred("get", data.length);
+        String contentType = stat.contentType();
+        return new ImageData(data, contentType == null ? "application/octet-stream" : contentType);
     }
 
     public record ImageData(byte[] data, String contentType) {}
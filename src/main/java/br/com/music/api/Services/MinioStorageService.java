@@ -4,10 +4,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import io.minio.GetObjectArgs;
+import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.errors.ErrorResponseException;
@@ -24,6 +27,8 @@ import io.minio.errors.InternalException;
 import io.minio.errors.InvalidResponseException;
 import io.minio.errors.ServerException;
 import io.minio.errors.XmlParserException;
+import io.minio.http.Method;
+import br.com.music.api.Services.minIO.MinioMetrics;
 import lombok.RequiredArgsConstructor;
 
 
@@ -35,12 +40,17 @@ public class MinioStorageService {
     @Autowired
     private final MinioClient minioClient;
 
+    private final MinioMetrics minioMetrics;
+
     @Value("${minio.bucket.name}")
     private String bucketName;
 
     @Value("${minio.url}")
     private String minioUrl;
 
+    @Value("${minio.presigned-url.expiry:30m}")
+    private Duration presignedUrlExpiry;
+
     public String uploadImage(MultipartFile file) {
 
         String uuid = UUID.randomUUID().toString();
@@ -51,13 +61,15 @@ public class MinioStorageService {
 
 
         try (InputStream is = file.getInputStream()) {
-            minioClient.putObject(
+            long size = is.available();
+            minioMetrics.record("put", () -> minioClient.putObject(
                 PutObjectArgs.builder()
                     .bucket(bucketName)
                     .object(uuid)
                     .contentType(file.getContentType())
-                    .stream(is, is.available(), -1)
-                    .build());
+                    .stream(is, size, -1)
+                    .build()));
+            minioMetrics.transferred("put", size);
             return uuid;
     
         } catch (Exception e) {
@@ -67,15 +79,18 @@ public class MinioStorageService {
 
     public String getImage(String id) throws InvalidKeyException, ErrorResponseException, InsufficientDataException, InternalException, InvalidResponseException, NoSuchAlgorithmException, ServerException, XmlParserException, IllegalArgumentException, IOException {
  
-        try (InputStream stream = minioClient.getObject(
-             GetObjectArgs.builder()
-            .bucket(bucketName)
-            .object(id)
-            .build())
-            )
-        {
-
-            String imageBase64 = this.inputStreamToBase64(stream);
+        try {
+            String imageBase64 = minioMetrics.record("get", () -> {
+                try (InputStream stream = minioClient.getObject(
+                     GetObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(id)
+                    .build()))
+                {
+                    return this.inputStreamToBase64(stream);
+                }
+            });
+            minioMetrics.transferred("get", decodedLength(imageBase64));
             return imageBase64;
 
         }
@@ -86,8 +101,23 @@ public class MinioStorageService {
     }
 
 
+    // Signed locally with the configured region, so no request is made to MinIO
+    public String presignedUrl(String bucket, String objectKey) {
+        try {
+            return minioMetrics.record("presign", () -> minioClient.getPresignedObjectUrl(
+                GetPresignedObjectUrlArgs.builder()
+                    .method(Method.GET)
+                    .bucket(bucket)
+                    .object(objectKey)
+                    .expiry((int) presignedUrlExpiry.toSeconds(), TimeUnit.SECONDS)
+                    .build()));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to sign image URL.", e);
+        }
+    }
+
     // METODO PARA CONVERTER INPUTSTREAM EM BASE64
-    private String inputStreamToBase64(InputStream sourceStream) throws IOException {
+    String inputStreamToBase64(InputStream sourceStream) throws IOException {
         
         byte[] sourceBytes = IOUtils.toByteArray(sourceStream);
 
@@ -97,6 +127,12 @@ public class MinioStorageService {
     }
     
 
+    // Size of the object behind a padded base64 string, without decoding it again
+    private static long decodedLength(String base64) {
+        int padding = base64.endsWith("==") ? 2 : base64.endsWith("=") ? 1 : 0;
+        return base64.length() / 4L * 3 - padding;
+    }
+
     private String generateFileName(MultipartFile file) {
         return new Date().getTime() + "-" + Objects.requireNonNull(file.getOriginalFilename()).replace(" ", "_");
     }
@@ -16,10 +16,12 @@ public class RegionalService {
 
     private final RegionalRepository repository;
     private final RegionalMapper mapper;
+    private final CatalogVersions versions;
 
-    public RegionalService(RegionalRepository repository, RegionalMapper mapper) {
+    public RegionalService(RegionalRepository repository, RegionalMapper mapper, CatalogVersions versions) {
         this.repository = repository;
         this.mapper = mapper;
+        this.versions = versions;
     }
 
     public List<RegionalDto> list() {
@@ -36,6 +38,7 @@ public class RegionalService {
         entidade.setNome(dto.getNome());
         entidade.setAtivo(dto.getAtivo() == null ? true : dto.getAtivo());
         Regional saved = repository.save(entidade);
+        versions.bump(CatalogVersions.Table.REGIONAL);
         return mapper.toDto(saved);
     }
 
@@ -46,6 +49,7 @@ public class RegionalService {
                     regional.setNome(dto.getNome());
                     regional.setAtivo(dto.getAtivo() != null ? dto.getAtivo() : true);
                     Regional updated = repository.save(regional);
+                    versions.bump(CatalogVersions.Table.REGIONAL);
                     return mapper.toDto(updated);
                 });
     }
@@ -54,6 +58,7 @@ public class RegionalService {
     public boolean delete(Integer id) {
         if (repository.existsById(id)) {
             repository.deleteById(id);
+            versions.bump(CatalogVersions.Table.REGIONAL);
             return true;
         }
         return false;
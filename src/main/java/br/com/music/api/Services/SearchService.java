@@ -0,0 +1,106 @@
+package br.com.music.api.Services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.music.api.Controller.dto.SearchResponse;
+
+/**
+ * Ranked, accent-insensitive search over artist names and album titles.
+ * <p>
+ * Candidates come from the GIN indexes of migration 008: full words through the generated
+ * {@code tsvector} columns, typos and partial words through trigram similarity ({@code %}, default
+ * threshold 0.3). Pages are keyset-paginated on (score, tipo, id), so a deep page costs the same
+ * as the first one instead of an OFFSET scan.
+ */
+@Service
+public class SearchService {
+
+    public static final int MAX_PAGE_SIZE = 50;
+
+    record Cursor(float score, String tipo, long id) {}
+
+    private static final String MATCHES = """
+            WITH q AS (
+                SELECT websearch_to_tsquery('simple', f_unaccent(?)) AS ts, f_unaccent(lower(?)) AS txt
+            )
+            SELECT tipo, id, nome, score FROM (
+                SELECT 'ARTISTA' AS tipo, a.id, a.nome,
+                       greatest(ts_rank(a.nome_tsv, q.ts), similarity(f_unaccent(lower(a.nome)), q.txt)) AS score
+                FROM artista a, q
+                WHERE a.nome_tsv @@ q.ts OR f_unaccent(lower(a.nome)) % q.txt
+                UNION ALL
+                SELECT 'ALBUM', al.id, al.titulo,
+                       greatest(ts_rank(al.titulo_tsv, q.ts), similarity(f_unaccent(lower(al.titulo)), q.txt))
+                FROM album al, q
+                WHERE al.titulo_tsv @@ q.ts OR f_unaccent(lower(al.titulo)) % q.txt
+            ) r
+            """;
+    private static final String AFTER_CURSOR = "WHERE score < ?::real OR (score = ?::real AND (tipo, id) > (?, ?))\n";
+    private static final String PAGE = "ORDER BY score DESC, tipo, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Throws IllegalArgumentException for a blank query or a malformed cursor
+    @Transactional(readOnly = true)
+    public SearchResponse search(String q, String cursor, int size) {
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("Query must not be blank");
+        }
+        String termo = q.trim();
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<Object> args = new ArrayList<>(List.of(termo, termo));
+        String sql = MATCHES;
+        if (cursor != null && !cursor.isBlank()) {
+            Cursor after = decode(cursor);
+            sql += AFTER_CURSOR;
+            args.addAll(List.of(after.score(), after.score(), after.tipo(), after.id()));
+        }
+        // One extra row tells whether there is a next page
+        args.add(limit + 1);
+
+        List<SearchResponse.Resultado> rows = jdbcTemplate.query(sql + PAGE,
+                (rs, i) -> new SearchResponse.Resultado(
+                        rs.getString("tipo"), rs.getLong("id"), rs.getString("nome"), rs.getFloat("score")),
+                args.toArray());
+
+        if (rows.size() <= limit) {
+            return new SearchResponse(rows, null);
+        }
+        List<SearchResponse.Resultado> page = rows.subList(0, limit);
+        SearchResponse.Resultado last = page.get(limit - 1);
+        return new SearchResponse(List.copyOf(page), encode(new Cursor(last.score(), last.tipo(), last.id())));
+    }
+
+    // Float.toString round-trips exactly, and AFTER_CURSOR casts the bound value to real (the type of
+    // ts_rank and similarity), so score = ? matches the row the cursor was taken from however the
+    // driver types the parameter
+    static String encode(Cursor cursor) {
+        String raw = cursor.score() + ":" + cursor.tipo() + ":" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3 || !("ARTISTA".equals(parts[1]) || "ALBUM".equals(parts[1]))) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new Cursor(Float.parseFloat(parts[0]), parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // Also covers bad base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package br.com.music.api.Services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Radix trie over normalized names (lower case, no accents) in which every node keeps the best
+ * {@code k} entries of its subtree, so a lookup is a walk down the prefix plus a copy of at most
+ * {@code k} references, independent of how many names share the prefix.
+ * <p>
+ * Each name is indexed from the start of every word ("the beatles" and "beatles"). Not thread
+ * safe: {@link SuggestService} guards it with a read/write lock.
+ */
+final class SuggestIndex {
+
+    record Entry(SuggestService.Tipo tipo, long id, String nome, int popularidade) {
+
+        boolean sameAs(Entry other) {
+            return tipo == other.tipo && id == other.id;
+        }
+    }
+
+    private record Key(SuggestService.Tipo tipo, long id) {}
+
+    // Most popular first; ties by name so results are stable
+    static final Comparator<Entry> RANK = Comparator.comparingInt(Entry::popularidade).reversed()
+            .thenComparing(Entry::nome, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Entry::tipo)
+            .thenComparingLong(Entry::id);
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static final class Node {
+        String label;
+        // Sorted by the first character of their label
+        Node[] children = NO_CHILDREN;
+        // Entries whose key ends at this node
+        Entry[] terminal = NO_ENTRIES;
+        // Best k entries of the subtree, in RANK order
+        Entry[] top = NO_ENTRIES;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private final int k;
+    private final Node root = new Node("");
+    private final Map<Key, Entry> entries = new HashMap<>();
+
+    SuggestIndex(int k) {
+        this.k = k;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    List<Entry> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int c = childIndex(node, key.charAt(i));
+            if (c < 0) {
+                return List.of();
+            }
+            Node child = node.children[c];
+            int common = commonPrefix(child.label, key, i);
+            if (i + common < key.length() && common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            i += common;
+        }
+        return List.of(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    /** Adds or renames an entry, keeping its popularity if it is already indexed. */
+    void put(SuggestService.Tipo tipo, long id, String nome) {
+        Entry current = entries.get(new Key(tipo, id));
+        put(new Entry(tipo, id, nome, current == null ? 0 : current.popularidade()));
+    }
+
+    void put(Entry entry) {
+        remove(entry.tipo(), entry.id());
+        entries.put(new Key(entry.tipo(), entry.id()), entry);
+        for (String key : keys(entry.nome())) {
+            insert(key, entry);
+        }
+    }
+
+    void remove(SuggestService.Tipo tipo, long id) {
+        Entry current = entries.remove(new Key(tipo, id));
+        if (current != null) {
+            for (String key : keys(current.nome())) {
+                delete(key, current);
+            }
+        }
+    }
+
+    void adjustPopularity(SuggestService.Tipo tipo, long id, int delta) {
+        Entry current = entries.get(new Key(tipo, id));
+        if (current != null) {
+            put(new Entry(tipo, id, current.nome(), Math.max(0, current.popularidade() + delta)));
+        }
+    }
+
+    static String normalize(String text) {
+        String plain = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(plain.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+
+    static Set<String> keys(String nome) {
+        String normalized = normalize(nome);
+        Set<String> keys = new LinkedHashSet<>();
+        if (!normalized.isEmpty()) {
+            keys.add(normalized);
+        }
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private void insert(String key, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            int c = childIndex(node, key.charAt(i));
+            if (c < 0) {
+                Node leaf = new Node(key.substring(i));
+                node.children = insertChild(node.children, -c - 1, leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+            Node child = node.children[c];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // Split the edge; the new middle node covers exactly the old child's subtree
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[] {child};
+                middle.top = child.top;
+                node.children[c] = middle;
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+
+        node.terminal = Arrays.copyOf(node.terminal, node.terminal.length + 1);
+        node.terminal[node.terminal.length - 1] = entry;
+        for (Node onPath : path) {
+            onPath.top = offer(onPath.top, entry);
+        }
+    }
+
+    private void delete(String key, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            int c = childIndex(node, key.charAt(i));
+            if (c < 0 || !key.startsWith(node.children[c].label, i)) {
+                return;
+            }
+            node = node.children[c];
+            path.add(node);
+            i += node.label.length();
+        }
+
+        node.terminal = Arrays.stream(node.terminal).filter(e -> !e.sameAs(entry)).toArray(Entry[]::new);
+        // Bottom-up, so every node merges the already corrected tops of its children
+        for (int p = path.size() - 1; p >= 0; p--) {
+            Node onPath = path.get(p);
+            if (p > 0 && onPath.terminal.length == 0 && onPath.children.length == 0) {
+                Node parent = path.get(p - 1);
+                parent.children = Arrays.stream(parent.children).filter(n -> n != onPath).toArray(Node[]::new);
+                continue;
+            }
+            if (contains(onPath.top, entry)) {
+                onPath.top = merge(onPath);
+            }
+        }
+    }
+
+    private Entry[] merge(Node node) {
+        Entry[] top = NO_ENTRIES;
+        for (Entry entry : node.terminal) {
+            top = offer(top, entry);
+        }
+        for (Node child : node.children) {
+            for (Entry entry : child.top) {
+                top = offer(top, entry);
+            }
+        }
+        return top;
+    }
+
+    // Inserts the entry in rank order if it makes the top k and is not there yet
+    private Entry[] offer(Entry[] top, Entry entry) {
+        if (contains(top, entry)) {
+            return top;
+        }
+        int position = Arrays.binarySearch(top, entry, RANK);
+        position = position < 0 ? -position - 1 : position;
+        if (position >= k) {
+            return top;
+        }
+        Entry[] updated = new Entry[Math.min(k, top.length + 1)];
+        System.arraycopy(top, 0, updated, 0, position);
+        updated[position] = entry;
+        System.arraycopy(top, position, updated, position + 1, updated.length - position - 1);
+        return updated;
+    }
+
+    private static boolean contains(Entry[] top, Entry entry) {
+        for (Entry e : top) {
+            if (e.sameAs(entry)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int childIndex(Node node, char first) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char c = node.children[mid].label.charAt(0);
+            if (c < first) {
+                low = mid + 1;
+            } else if (c > first) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static Node[] insertChild(Node[] children, int position, Node child) {
+        Node[] updated = new Node[children.length + 1];
+        System.arraycopy(children, 0, updated, 0, position);
+        updated[position] = child;
+        System.arraycopy(children, position, updated, position + 1, children.length - position);
+        return updated;
+    }
+
+    private static int commonPrefix(String label, String key, int from) {
+        int max = Math.min(label.length(), key.length() - from);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(from + i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,281 @@
+package br.com.music.api.Services;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.music.api.Controller.dto.SuggestionDto;
+
+/**
+ * In-process typeahead over active artist names and album titles, backed by a {@link SuggestIndex}.
+ * <p>
+ * The index is loaded with a streaming scan when the application starts and kept current by the
+ * service write methods (applied after commit). A rebuild loads a fresh index without blocking
+ * lookups; the entries changed meanwhile are then read again from the database and put on the new
+ * index before it is swapped in. Re-reading, rather than replaying the changes, keeps a popularity
+ * delta from being counted twice when the rebuild scan already saw the new link.
+ * <p>
+ * Every committed change is also published as a {@link Changed} event, which the Redis fan-out
+ * relays so the other instances {@link #refresh} the same entries.
+ * <p>
+ * There are no play counts in the schema, so popularity is the number of artist-album links:
+ * albums for an artist, artists for an album. Links removed together with an album are only
+ * reflected in the artists' popularity at the next rebuild.
+ */
+@Service
+public class SuggestService {
+
+    public enum Tipo {
+        ARTISTA,
+        ALBUM
+    }
+
+    /** Entry changed by a write committed on this instance. */
+    public record Changed(Tipo tipo, long id) {}
+
+    /** Where the index reads its entries from; JDBC outside tests. */
+    interface Rows {
+
+        void scan(Consumer<SuggestIndex.Entry> sink);
+
+        /** The entry as it is now, or null if it was deleted or deactivated. */
+        SuggestIndex.Entry read(Tipo tipo, long id);
+    }
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestService.class);
+
+    private static final String LOAD_SQL = """
+            SELECT 'ARTISTA' AS tipo, a.id, a.nome,
+                   (SELECT count(*) FROM artista_album aa WHERE aa.artista_id = a.id) AS popularidade
+            FROM artista a WHERE a.ativo
+            UNION ALL
+            SELECT 'ALBUM', al.id, al.titulo,
+                   (SELECT count(*) FROM artista_album aa WHERE aa.album_id = al.id)
+            FROM album al WHERE al.ativo
+            """;
+    private static final String READ_ARTISTA_SQL = """
+            SELECT a.nome, (SELECT count(*) FROM artista_album aa WHERE aa.artista_id = a.id) AS popularidade
+            FROM artista a WHERE a.id = ? AND a.ativo
+            """;
+    private static final String READ_ALBUM_SQL = """
+            SELECT al.titulo AS nome, (SELECT count(*) FROM artista_album aa WHERE aa.album_id = al.id) AS popularidade
+            FROM album al WHERE al.id = ? AND al.ativo
+            """;
+
+    private final Rows rows;
+    private final ApplicationEventPublisher events;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Guarded by lock
+    private SuggestIndex index = new SuggestIndex(MAX_SUGGESTIONS);
+    // Entries changed while a rebuild runs, read again for the new index before the swap; guarded by lock
+    private Set<Changed> pending;
+
+    @Autowired
+    public SuggestService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          @Value("${app.suggest.fetch-size:1000}") int fetchSize, ApplicationEventPublisher events) {
+        this(jdbcRows(jdbcTemplate, transactionManager, fetchSize), events);
+    }
+
+    SuggestService(Rows rows, ApplicationEventPublisher events) {
+        this.rows = rows;
+        this.events = events;
+    }
+
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        List<SuggestIndex.Entry> entries;
+        lock.readLock().lock();
+        try {
+            entries = index.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return entries.stream()
+                .map(entry -> new SuggestionDto(entry.tipo().name(), entry.id(), entry.nome()))
+                .toList();
+    }
+
+    public void saved(Tipo tipo, long id, String nome, boolean ativo) {
+        afterCommit(ativo ? target -> target.put(tipo, id, nome) : target -> target.remove(tipo, id),
+                new Changed(tipo, id));
+    }
+
+    public void deleted(Tipo tipo, long id) {
+        afterCommit(target -> target.remove(tipo, id), new Changed(tipo, id));
+    }
+
+    public void linked(long artistaId, long albumId, int delta) {
+        afterCommit(target -> {
+            target.adjustPopularity(Tipo.ARTISTA, artistaId, delta);
+            target.adjustPopularity(Tipo.ALBUM, albumId, delta);
+        }, new Changed(Tipo.ARTISTA, artistaId), new Changed(Tipo.ALBUM, albumId));
+    }
+
+    /** Reads an entry changed on another instance again; not published again. */
+    public void refresh(Tipo tipo, long id) {
+        SuggestIndex.Entry entry = rows.read(tipo, id);
+        lock.writeLock().lock();
+        try {
+            write(index, tipo, id, entry);
+            if (pending != null) {
+                pending.add(new Changed(tipo, id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Async
+    public void rebuildInBackground() {
+        rebuild();
+    }
+
+    /** Returns false if a rebuild is already running. */
+    public boolean rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            pending = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        SuggestIndex fresh = null;
+        try {
+            fresh = load();
+            swapIn(fresh);
+        } catch (RuntimeException e) {
+            fresh = null;
+            log.warn("Suggest index rebuild failed; keeping the current index", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+                rebuilding.set(false);
+            }
+        }
+        if (fresh != null) {
+            log.info("Suggest index rebuilt with {} entries in {} ms", fresh.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return fresh != null;
+    }
+
+    private SuggestIndex load() {
+        SuggestIndex fresh = new SuggestIndex(MAX_SUGGESTIONS);
+        rows.scan(fresh::put);
+        return fresh;
+    }
+
+    // Reads the pending entries outside the lock, then swaps once no change arrived in the meantime
+    private void swapIn(SuggestIndex fresh) {
+        while (true) {
+            Set<Changed> changed;
+            lock.writeLock().lock();
+            try {
+                if (pending.isEmpty()) {
+                    index = fresh;
+                    return;
+                }
+                changed = pending;
+                pending = new HashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            for (Changed entry : changed) {
+                write(fresh, entry.tipo(), entry.id(), rows.read(entry.tipo(), entry.id()));
+            }
+        }
+    }
+
+    private static void write(SuggestIndex target, Tipo tipo, long id, SuggestIndex.Entry entry) {
+        if (entry == null) {
+            target.remove(tipo, id);
+        } else {
+            target.put(entry);
+        }
+    }
+
+    private void afterCommit(Consumer<SuggestIndex> change, Changed... changed) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change, changed);
+                }
+            });
+        } else {
+            apply(change, changed);
+        }
+    }
+
+    private void apply(Consumer<SuggestIndex> change, Changed[] changed) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pending != null) {
+                pending.addAll(List.of(changed));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (Changed entry : changed) {
+            events.publishEvent(entry);
+        }
+    }
+
+    private static Rows jdbcRows(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, int fetchSize) {
+        JdbcTemplate streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingJdbcTemplate.setFetchSize(fetchSize);
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new Rows() {
+            @Override
+            public void scan(Consumer<SuggestIndex.Entry> sink) {
+                // Inside a transaction so the driver honours the fetch size and streams the rows
+                readOnlyTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(LOAD_SQL, rs -> {
+                    sink.accept(new SuggestIndex.Entry(
+                            Tipo.valueOf(rs.getString("tipo")), rs.getLong("id"), rs.getString("nome"), rs.getInt("popularidade")));
+                }));
+            }
+
+            @Override
+            public SuggestIndex.Entry read(Tipo tipo, long id) {
+                return jdbcTemplate.query(tipo == Tipo.ARTISTA ? READ_ARTISTA_SQL : READ_ALBUM_SQL,
+                        (rs, i) -> new SuggestIndex.Entry(tipo, id, rs.getString("nome"), rs.getInt("popularidade")), id)
+                        .stream().findFirst().orElse(null);
+            }
+        };
+    }
+}
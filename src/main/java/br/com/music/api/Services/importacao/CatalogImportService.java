@@ -0,0 +1,223 @@
+package br.com.music.api.Services.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.music.api.Controller.dto.ImportReport;
+import br.com.music.api.Domain.ImportJob;
+import br.com.music.api.Domain.Enums.StatusImportacao;
+import br.com.music.api.Repository.ImportJobRepository;
+import br.com.music.api.Services.CatalogChanges;
+import br.com.music.api.Services.CatalogVersions;
+import br.com.music.api.Services.SuggestService;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk import of artists and albums. Input is read line by line and handled in chunks; each
+ * chunk is COPYed into a temporary staging table, upserted set-wise into the real table and
+ * checkpointed in {@code import_job}, all in one transaction. A failed job can be resumed by
+ * sending the same input again with its id: lines up to the checkpoint are skipped.
+ */
+@Service
+public class CatalogImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImportService.class);
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final ImportJobRepository jobRepository;
+    private final CatalogVersions versions;
+    private final CatalogChanges changes;
+    private final SuggestService suggestions;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public CatalogImportService(ImportJobRepository jobRepository, CatalogVersions versions, CatalogChanges changes,
+                                SuggestService suggestions, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper, Validator validator, @Value("${app.import.chunk-size:5000}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.versions = versions;
+        this.changes = changes;
+        this.suggestions = suggestions;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    private static final class Chunk {
+        final StringBuilder records = new StringBuilder();
+        long lines;
+        long accepted;
+        long rejected;
+    }
+
+    public Optional<ImportReport> status(UUID jobId) {
+        return jobRepository.findById(jobId).map(job -> toReport(job, List.of()));
+    }
+
+    /**
+     * Runs a new job ({@code jobId} null) or resumes an existing one. Returns empty when the job
+     * does not exist; throws {@link IllegalStateException} when it cannot be resumed.
+     */
+    public Optional<ImportReport> importar(ImportTarget target, ImportFormat format, InputStream input, UUID jobId) {
+        ImportJob job;
+        if (jobId == null) {
+            job = start(target, format);
+        } else {
+            Optional<ImportJob> existing = jobRepository.findById(jobId);
+            if (existing.isEmpty()) {
+                return Optional.empty();
+            }
+            job = resume(existing.get(), target, format);
+        }
+
+        List<ImportReport.RowError> errors = new ArrayList<>();
+        long changedBefore = job.getInseridas() + job.getAtualizadas();
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+            ImportRowReader rows = new ImportRowReader(reader, format, target, objectMapper, validator);
+            rows.skipThrough(job.getLinhasProcessadas());
+
+            Chunk chunk = new Chunk();
+            ImportRowReader.Row row;
+            while ((row = rows.next()) != null) {
+                if (row.error() != null) {
+                    chunk.rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new ImportReport.RowError(row.line(), row.error()));
+                    }
+                } else if (!row.isBlank()) {
+                    target.appendCopyRecord(chunk.records, row.line(), row.value());
+                    chunk.accepted++;
+                }
+                if (++chunk.lines >= chunkSize) {
+                    job = commit(job, target, chunk, rows.getLine(), false);
+                    chunk = new Chunk();
+                }
+            }
+            job = commit(job, target, chunk, rows.getLine(), true);
+            // Set-based upserts bypass the per-row hooks; reload the typeahead index once instead
+            if (job.getInseridas() + job.getAtualizadas() > changedBefore) {
+                suggestions.rebuildInBackground();
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            ImportJob current = jobRepository.findById(job.getId()).orElse(job);
+            ImportReport report = toReport(current, errors);
+            report.setMensagem("Job is being processed by another request");
+            return Optional.of(report);
+        } catch (IOException | RuntimeException e) {
+            job = fail(job.getId(), e);
+        }
+        return Optional.of(toReport(job, errors));
+    }
+
+    private ImportJob start(ImportTarget target, ImportFormat format) {
+        ImportJob job = new ImportJob();
+        job.setId(UUID.randomUUID());
+        job.setTipo(target.getPath());
+        job.setFormato(format.name());
+        job.setStatus(StatusImportacao.EM_ANDAMENTO);
+        job.setCriadoEm(LocalDateTime.now());
+        job.setAtualizadoEm(job.getCriadoEm());
+        return jobRepository.save(job);
+    }
+
+    private ImportJob resume(ImportJob job, ImportTarget target, ImportFormat format) {
+        if (!job.getTipo().equals(target.getPath()) || !job.getFormato().equals(format.name())) {
+            throw new IllegalStateException("Job " + job.getId() + " imports " + job.getTipo() + " as " + job.getFormato());
+        }
+        if (job.getStatus() == StatusImportacao.CONCLUIDA) {
+            throw new IllegalStateException("Job " + job.getId() + " is already complete");
+        }
+        job.setStatus(StatusImportacao.EM_ANDAMENTO);
+        job.setMensagem(null);
+        job.setAtualizadoEm(LocalDateTime.now());
+        return jobRepository.save(job);
+    }
+
+    private ImportJob commit(ImportJob job, ImportTarget target, Chunk chunk, long checkpoint, boolean last) {
+        return transactionTemplate.execute(status -> {
+            long[] counts = chunk.accepted == 0 ? new long[2] : load(target, chunk.records.toString());
+            if (counts[0] + counts[1] > 0) {
+                versions.bump(target == ImportTarget.ARTISTAS ? CatalogVersions.Table.ARTISTA : CatalogVersions.Table.ALBUM);
+                // One row per chunk, not per record: subscribers re-read the listing (or the export) after an import
+                changes.record(target == ImportTarget.ARTISTAS ? CatalogChanges.Entidade.ARTISTA : CatalogChanges.Entidade.ALBUM,
+                        null, CatalogChanges.Operacao.IMPORTADO);
+            }
+            job.setLinhasProcessadas(checkpoint);
+            job.setAceitas(job.getAceitas() + chunk.accepted);
+            job.setRejeitadas(job.getRejeitadas() + chunk.rejected);
+            job.setAtualizadas(job.getAtualizadas() + counts[0]);
+            job.setInseridas(job.getInseridas() + counts[1]);
+            job.setAtualizadoEm(LocalDateTime.now());
+            if (last) {
+                job.setStatus(StatusImportacao.CONCLUIDA);
+            }
+            // Versioned: fails if another run of the same job moved the checkpoint meanwhile
+            return jobRepository.save(job);
+        });
+    }
+
+    /** Returns {updated, inserted}. Runs on the connection of the surrounding transaction. */
+    private long[] load(ImportTarget target, String records) {
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(target.getStagingDdl());
+                // Serializes imports of the same table so concurrent chunks cannot insert the same key twice
+                statement.execute("SELECT pg_advisory_xact_lock(hashtext('import:" + target.getPath() + "'))");
+                try {
+                    connection.unwrap(PGConnection.class).getCopyAPI().copyIn(target.getCopySql(), new StringReader(records));
+                } catch (IOException e) {
+                    throw new SQLException("COPY into staging table failed", e);
+                }
+                long updated = statement.executeUpdate(target.getUpdateSql());
+                long inserted = statement.executeUpdate(target.getInsertSql());
+                return new long[] {updated, inserted};
+            }
+        });
+    }
+
+    private ImportJob fail(UUID jobId, Exception cause) {
+        log.warn("Import job {} failed", jobId, cause);
+        ImportJob job = jobRepository.findById(jobId).orElseThrow();
+        job.setStatus(StatusImportacao.FALHOU);
+        String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        job.setMensagem(message.length() > 500 ? message.substring(0, 500) : message);
+        job.setAtualizadoEm(LocalDateTime.now());
+        return jobRepository.save(job);
+    }
+
+    private static ImportReport toReport(ImportJob job, List<ImportReport.RowError> errors) {
+        return new ImportReport(job.getId(), job.getTipo(), job.getStatus().name(), job.getLinhasProcessadas(),
+                job.getAceitas(), job.getRejeitadas(), job.getInseridas(), job.getAtualizadas(), job.getMensagem(), errors);
+    }
+}
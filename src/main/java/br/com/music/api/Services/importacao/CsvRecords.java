@@ -0,0 +1,67 @@
+package br.com.music.api.Services.importacao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 helpers for single-line records: quoted fields, doubled quotes inside them,
+ * no embedded line breaks.
+ */
+final class CsvRecords {
+
+    private CsvRecords() {
+    }
+
+    static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Appends a field in the form COPY ... (FORMAT csv) expects; null becomes an unquoted empty
+     * field, which COPY reads as NULL.
+     */
+    static void append(StringBuilder record, Object value, boolean last) {
+        if (value != null) {
+            String text = value.toString();
+            record.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    record.append('"');
+                }
+                record.append(c);
+            }
+            record.append('"');
+        }
+        record.append(last ? '\n' : ',');
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.music.api.Services.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Parse and validation stages of an import: reads one line at a time and turns it into either a
+ * validated row or an error. Line numbers are physical lines of the input, CSV header included.
+ */
+final class ImportRowReader {
+
+    record Row(long line, Object value, String error) {
+
+        boolean isBlank() {
+            return value == null && error == null;
+        }
+    }
+
+    private static final int MAX_ERROR_LENGTH = 200;
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ImportTarget target;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader jsonReader;
+    private final Validator validator;
+    private final List<String> header;
+    private long line;
+
+    ImportRowReader(BufferedReader reader, ImportFormat format, ImportTarget target,
+                    ObjectMapper objectMapper, Validator validator) throws IOException {
+        this.reader = reader;
+        this.format = format;
+        this.target = target;
+        this.objectMapper = objectMapper;
+        this.jsonReader = objectMapper.readerFor(target.getRowType());
+        this.validator = validator;
+        if (format == ImportFormat.CSV) {
+            String headerLine = reader.readLine();
+            line = 1;
+            this.header = headerLine == null ? List.of() : CsvRecords.parse(headerLine).stream()
+                    .map(String::trim).collect(Collectors.toList());
+        } else {
+            this.header = List.of();
+        }
+    }
+
+    /** Consumes lines without parsing them until {@code lastLine} has been read. */
+    void skipThrough(long lastLine) throws IOException {
+        while (line < lastLine && reader.readLine() != null) {
+            line++;
+        }
+    }
+
+    /** Returns the next line, or null at end of input. */
+    Row next() throws IOException {
+        String raw = reader.readLine();
+        if (raw == null) {
+            return null;
+        }
+        line++;
+        if (raw.isBlank()) {
+            return new Row(line, null, null);
+        }
+        return parse(raw);
+    }
+
+    long getLine() {
+        return line;
+    }
+
+    private Row parse(String raw) {
+        Object value;
+        try {
+            value = format == ImportFormat.CSV ? fromCsv(raw) : jsonReader.readValue(raw);
+        } catch (JsonProcessingException e) {
+            return error(e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return error(e.getMessage());
+        }
+        if (value == null) {
+            return error("Expected a JSON object");
+        }
+
+        Set<ConstraintViolation<Object>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            return error(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        String error = target.validate(value);
+        return error != null ? error(error) : new Row(line, value, null);
+    }
+
+    private Object fromCsv(String raw) {
+        List<String> fields = CsvRecords.parse(raw);
+        if (fields.size() > header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " columns but found " + fields.size());
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String field = fields.get(i).trim();
+            // Empty cells are missing values, not empty strings
+            if (!field.isEmpty()) {
+                values.put(header.get(i), field);
+            }
+        }
+        return objectMapper.convertValue(values, target.getRowType());
+    }
+
+    private Row error(String message) {
+        String text = message == null ? "Invalid row" : message;
+        return new Row(line, null, text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text);
+    }
+}
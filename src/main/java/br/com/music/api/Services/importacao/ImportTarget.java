@@ -0,0 +1,134 @@
+package br.com.music.api.Services.importacao;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import br.com.music.api.Controller.dto.AlbumDto;
+import br.com.music.api.Controller.dto.ArtistaDto;
+import br.com.music.api.Domain.Enums.TipoArtista;
+
+/**
+ * Importable tables: the DTO each row is read into, its temporary staging table and the
+ * set-based upsert that moves staged rows into the real table.
+ * <p>
+ * Artists are matched by name and albums by title and release date; within one chunk the last
+ * line for a key wins.
+ */
+public enum ImportTarget {
+
+    ARTISTAS("artistas", ArtistaDto.class,
+            "CREATE TEMP TABLE IF NOT EXISTS import_artista_stage "
+                    + "(linha BIGINT, nome VARCHAR(200), tipo VARCHAR(20), ativo BOOLEAN) ON COMMIT DELETE ROWS",
+            "COPY import_artista_stage (linha, nome, tipo, ativo) FROM STDIN WITH (FORMAT csv)",
+            "UPDATE artista a SET tipo = s.tipo, ativo = s.ativo "
+                    + "FROM (SELECT DISTINCT ON (nome) nome, tipo, ativo FROM import_artista_stage ORDER BY nome, linha DESC) s "
+                    + "WHERE a.nome = s.nome AND (a.tipo, a.ativo) IS DISTINCT FROM (s.tipo, s.ativo)",
+            "INSERT INTO artista (nome, tipo, ativo) "
+                    + "SELECT s.nome, s.tipo, s.ativo "
+                    + "FROM (SELECT DISTINCT ON (nome) nome, tipo, ativo FROM import_artista_stage ORDER BY nome, linha DESC) s "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM artista a WHERE a.nome = s.nome)") {
+
+        @Override
+        String validate(Object row) {
+            String tipo = ((ArtistaDto) row).getTipo();
+            try {
+                TipoArtista.valueOf(tipo.trim().toUpperCase(Locale.ROOT));
+                return null;
+            } catch (IllegalArgumentException e) {
+                return "tipo: must be CANTOR or BANDA";
+            }
+        }
+
+        @Override
+        void appendCopyRecord(StringBuilder record, long line, Object row) {
+            ArtistaDto artista = (ArtistaDto) row;
+            CsvRecords.append(record, line, false);
+            CsvRecords.append(record, artista.getNome().trim(), false);
+            CsvRecords.append(record, artista.getTipo().trim().toUpperCase(Locale.ROOT), false);
+            CsvRecords.append(record, artista.getAtivo() == null || artista.getAtivo(), true);
+        }
+    },
+
+    ALBUNS("albuns", AlbumDto.class,
+            "CREATE TEMP TABLE IF NOT EXISTS import_album_stage "
+                    + "(linha BIGINT, titulo VARCHAR(200), data_lancamento DATE, ativo BOOLEAN) ON COMMIT DELETE ROWS",
+            "COPY import_album_stage (linha, titulo, data_lancamento, ativo) FROM STDIN WITH (FORMAT csv)",
+            "UPDATE album a SET ativo = s.ativo "
+                    + "FROM (SELECT DISTINCT ON (titulo, data_lancamento) titulo, data_lancamento, ativo FROM import_album_stage "
+                    + "ORDER BY titulo, data_lancamento, linha DESC) s "
+                    + "WHERE a.titulo = s.titulo AND a.data_lancamento = s.data_lancamento AND a.ativo IS DISTINCT FROM s.ativo",
+            "INSERT INTO album (titulo, data_lancamento, ativo) "
+                    + "SELECT s.titulo, s.data_lancamento, s.ativo "
+                    + "FROM (SELECT DISTINCT ON (titulo, data_lancamento) titulo, data_lancamento, ativo FROM import_album_stage "
+                    + "ORDER BY titulo, data_lancamento, linha DESC) s "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM album a WHERE a.titulo = s.titulo AND a.data_lancamento = s.data_lancamento)") {
+
+        @Override
+        String validate(Object row) {
+            return null;
+        }
+
+        @Override
+        void appendCopyRecord(StringBuilder record, long line, Object row) {
+            AlbumDto album = (AlbumDto) row;
+            CsvRecords.append(record, line, false);
+            CsvRecords.append(record, album.getTitulo().trim(), false);
+            CsvRecords.append(record, album.getDataLancamento(), false);
+            CsvRecords.append(record, album.getAtivo() == null || album.getAtivo(), true);
+        }
+    };
+
+    private final String path;
+    private final Class<?> rowType;
+    private final String stagingDdl;
+    private final String copySql;
+    private final String updateSql;
+    private final String insertSql;
+
+    ImportTarget(String path, Class<?> rowType, String stagingDdl, String copySql, String updateSql, String insertSql) {
+        this.path = path;
+        this.rowType = rowType;
+        this.stagingDdl = stagingDdl;
+        this.copySql = copySql;
+        this.updateSql = updateSql;
+        this.insertSql = insertSql;
+    }
+
+    public static Optional<ImportTarget> fromPath(String path) {
+        for (ImportTarget target : values()) {
+            if (target.path.equals(path)) {
+                return Optional.of(target);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** Checks beyond the DTO's bean validation constraints; returns the error or null. */
+    abstract String validate(Object row);
+
+    abstract void appendCopyRecord(StringBuilder record, long line, Object row);
+
+    public String getPath() {
+        return path;
+    }
+
+    Class<?> getRowType() {
+        return rowType;
+    }
+
+    String getStagingDdl() {
+        return stagingDdl;
+    }
+
+    String getCopySql() {
+        return copySql;
+    }
+
+    String getUpdateSql() {
+        return updateSql;
+    }
+
+    String getInsertSql() {
+        return insertSql;
+    }
+}
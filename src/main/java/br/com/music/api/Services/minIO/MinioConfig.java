@@ -1,14 +1,22 @@
 package br.com.music.api.Services.minIO;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import io.minio.MinioClient;
+import io.minio.http.HttpUtils;
+import okhttp3.Dispatcher;
 
 @Configuration
 public class MinioConfig {
     
+    // Same timeout the MinIO client uses for its default HTTP client
+    private static final long DEFAULT_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+
     @Value("${minio.access.key}")
     private String accessKey;
 
@@ -18,11 +26,26 @@ public class MinioConfig {
     @Value("${minio.url}")
     private String minioUrl;
 
+    // Known region lets presigned URLs be computed without a bucket-location lookup
+    @Value("${minio.region}")
+    private String region;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public MinioClient minioClient() {
-        return MinioClient.builder()
+        MinioClient.Builder builder = MinioClient.builder()
                 .endpoint(minioUrl)
-                .credentials(accessKey, secretKey)
-                .build();
+                .region(region)
+                .credentials(accessKey, secretKey);
+        if (virtualThreads) {
+            // Blocking calls already run on the caller's virtual thread; this covers OkHttp's async dispatch
+            builder.httpClient(HttpUtils.newDefaultHttpClient(DEFAULT_TIMEOUT_MS, DEFAULT_TIMEOUT_MS, DEFAULT_TIMEOUT_MS)
+                    .newBuilder()
+                    .dispatcher(new Dispatcher(Executors.newVirtualThreadPerTaskExecutor()))
+                    .build());
+        }
+        return builder.build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package br.com.music.api.Services.minIO;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Latency and payload size of calls to MinIO, tagged by operation ({@code put}, {@code get},
+ * {@code stat}, {@code presign}), plus a {@code minio <operation>} span per call when tracing is
+ * on. Timings include reading or writing the object body, so they show what the request thread
+ * actually waits for.
+ */
+@Component
+public class MinioMetrics {
+
+    /** A MinIO call; the client declares a long list of checked exceptions. */
+    @FunctionalInterface
+    public interface Call<T> {
+        T run() throws Exception;
+    }
+
+    private final MeterRegistry registry;
+    private final Tracer tracer;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> transfers = new ConcurrentHashMap<>();
+
+    public MinioMetrics(MeterRegistry registry, Tracer tracer) {
+        this.registry = registry;
+        this.tracer = tracer;
+    }
+
+    public <T> T record(String operation, Call<T> call) throws Exception {
+        Span span = tracer.nextSpan().name("minio " + operation).tag("minio.operation", operation).start();
+        long start = System.nanoTime();
+        String outcome = "error";
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            T result = call.run();
+            outcome = "success";
+            return result;
+        } catch (Exception e) {
+            span.error(e);
+            throw e;
+        } finally {
+            timer(operation, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            span.end();
+        }
+    }
+
+    public void transferred(String operation, long bytes) {
+        transfers.computeIfAbsent(operation, op -> DistributionSummary.builder("minio.transfer")
+                        .description("Object bytes sent to or read from MinIO")
+                        .baseUnit("bytes")
+                        .tag("operation", op)
+                        .register(registry))
+                .record(bytes);
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return timers.computeIfAbsent(operation + ':' + outcome, key -> Timer.builder("minio.requests")
+                .description("MinIO calls, including the object body transfer")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry));
+    }
+}
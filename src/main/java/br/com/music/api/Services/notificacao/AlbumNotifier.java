@@ -0,0 +1,52 @@
+package br.com.music.api.Services.notificacao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.music.api.Controller.dto.AlbumDto;
+
+/**
+ * Notifies WebSocket clients subscribed to {@link NotificationBroadcaster#ALBUNS_TOPIC} of new
+ * albums. The album is serialized once, here; inside a transaction it is published after commit,
+ * so clients never hear about an album they cannot read yet.
+ */
+@Service
+public class AlbumNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(AlbumNotifier.class);
+
+    private final ObjectMapper objectMapper;
+    private final NotificationFanOut fanOut;
+
+    public AlbumNotifier(ObjectMapper objectMapper, NotificationFanOut fanOut) {
+        this.objectMapper = objectMapper;
+        this.fanOut = fanOut;
+    }
+
+    public void created(AlbumDto album) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(album);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize album {} for notification", album.getId(), e);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fanOut.publish(payload);
+                }
+            });
+        } else {
+            fanOut.publish(payload);
+        }
+    }
+}
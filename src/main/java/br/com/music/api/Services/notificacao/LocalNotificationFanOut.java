@@ -0,0 +1,25 @@
+package br.com.music.api.Services.notificacao;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-instance stand-in for {@link RedisNotificationFanOut}, used by tests and local runs
+ * without Redis ({@code app.notifications.fan-out=local}). Also stands in on migrate-only runs, which
+ * have no Redis fan-out and publish nothing.
+ */
+@Component
+@ConditionalOnExpression("'${app.notifications.fan-out:redis}' == 'local' or ${app.migrate-only:false}")
+public class LocalNotificationFanOut implements NotificationFanOut {
+
+    private final NotificationBroadcaster broadcaster;
+
+    public LocalNotificationFanOut(NotificationBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @Override
+    public void publish(byte[] payload) {
+        broadcaster.albumCreated(payload);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.music.api.Services.notificacao;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Hands serialized notifications to the local STOMP broker. The payload bytes are sent as they
+ * are, with no message converter involved, and the broker shares them across all subscriptions.
+ */
+@Component
+public class NotificationBroadcaster {
+
+    public static final String ALBUNS_TOPIC = "/topic/albuns";
+
+    private final SimpMessagingTemplate template;
+
+    public NotificationBroadcaster(SimpMessagingTemplate template) {
+        this.template = template;
+    }
+
+    public void albumCreated(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+        template.send(ALBUNS_TOPIC, message);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.music.api.Services.notificacao;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class NotificationConfig {
+
+    // One subscription connection per instance, whatever the number of WebSocket sessions. The
+    // migration job exits before serving anything and runs without Redis, so it gets no listeners
+    @Bean
+    @ConditionalOnProperty(name = "app.notifications.fan-out", havingValue = "redis", matchIfMissing = true)
+    @ConditionalOnProperty(name = "app.migrate-only", havingValue = "false", matchIfMissing = true)
+    public RedisMessageListenerContainer notificationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       RedisNotificationFanOut fanOut,
+                                                                       RedisVersionFanOut versionFanOut,
+                                                                       RedisSuggestFanOut suggestFanOut) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(fanOut, new ChannelTopic(RedisNotificationFanOut.CHANNEL));
+        container.addMessageListener(versionFanOut, new ChannelTopic(RedisVersionFanOut.CHANNEL));
+        container.addMessageListener(suggestFanOut, new ChannelTopic(RedisSuggestFanOut.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.music.api.Services.notificacao;
+
+/**
+ * Carries an already serialized notification to the STOMP subscribers of every instance.
+ * {@link RedisNotificationFanOut} (default) goes through Redis pub/sub; {@link LocalNotificationFanOut}
+ * only reaches the local instance.
+ */
+public interface NotificationFanOut {
+
+    void publish(byte[] payload);
+}
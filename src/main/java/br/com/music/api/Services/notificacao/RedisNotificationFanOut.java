@@ -0,0 +1,52 @@
+package br.com.music.api.Services.notificacao;
+
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes notifications on a Redis channel that every instance, including this one, listens to
+ * (see {@link NotificationConfig}). The channel carries the JSON as is, so each instance hands the
+ * received bytes to its broker without deserializing them.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.fan-out", havingValue = "redis", matchIfMissing = true)
+@ConditionalOnProperty(name = "app.migrate-only", havingValue = "false", matchIfMissing = true)
+public class RedisNotificationFanOut implements NotificationFanOut, MessageListener {
+
+    static final String CHANNEL = "catalog:albuns:criados";
+    private static final byte[] CHANNEL_BYTES = CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    private static final Logger log = LoggerFactory.getLogger(RedisNotificationFanOut.class);
+
+    private final StringRedisTemplate redis;
+    private final NotificationBroadcaster broadcaster;
+
+    public RedisNotificationFanOut(StringRedisTemplate redis, NotificationBroadcaster broadcaster) {
+        this.redis = redis;
+        this.broadcaster = broadcaster;
+    }
+
+    @Override
+    public void publish(byte[] payload) {
+        try {
+            // Straight to the connection: convertAndSend would take a String and encode it again
+            redis.execute((RedisCallback<Long>) connection -> connection.publish(CHANNEL_BYTES, payload));
+        } catch (RuntimeException e) {
+            // Notifications are best effort; the album is already committed and clients can still poll
+            log.warn("Could not publish album notification: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        broadcaster.albumCreated(message.getBody());
+    }
+}
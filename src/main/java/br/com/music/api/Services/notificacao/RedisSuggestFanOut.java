@@ -0,0 +1,69 @@
+package br.com.music.api.Services.notificacao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import br.com.music.api.Services.SuggestService;
+
+/**
+ * Relays {@link SuggestService} changes between instances over Redis pub/sub, so an entry
+ * written through one instance is read again into the typeahead index of the others. Messages
+ * are {@code "<instance> TIPO:id"}; an instance ignores its own.
+ * <p>
+ * Delivery is best effort: an entry whose message is lost stays stale on that instance until
+ * the next rebuild.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.fan-out", havingValue = "redis", matchIfMissing = true)
+@ConditionalOnProperty(name = "app.migrate-only", havingValue = "false", matchIfMissing = true)
+public class RedisSuggestFanOut implements MessageListener {
+
+    static final String CHANNEL = "catalog:sugestoes";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisSuggestFanOut.class);
+
+    private final String instance = UUID.randomUUID().toString();
+    private final StringRedisTemplate redis;
+    private final SuggestService suggestions;
+
+    public RedisSuggestFanOut(StringRedisTemplate redis, SuggestService suggestions) {
+        this.redis = redis;
+        this.suggestions = suggestions;
+    }
+
+    @EventListener
+    public void changed(SuggestService.Changed event) {
+        try {
+            redis.convertAndSend(CHANNEL, instance + " " + event.tipo() + ":" + event.id());
+        } catch (RuntimeException e) {
+            log.warn("Could not publish suggestion change: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int space = body.indexOf(' ');
+        int colon = body.indexOf(':', space + 1);
+        if (space < 0 || colon < 0 || body.substring(0, space).equals(instance)) {
+            return;
+        }
+        try {
+            suggestions.refresh(SuggestService.Tipo.valueOf(body.substring(space + 1, colon)),
+                    Long.parseLong(body.substring(colon + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring suggestion change '{}'", body);
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh suggestion '{}': {}", body, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.music.api.Services.notificacao;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import br.com.music.api.Services.CatalogVersions;
+
+/**
+ * Keeps the {@link CatalogVersions} of every table in Redis ({@code INCR} per bump), so all
+ * instances derive the same ETag from the same data and a restart does not change it.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.fan-out", havingValue = "redis", matchIfMissing = true)
+@ConditionalOnProperty(name = "app.migrate-only", havingValue = "false", matchIfMissing = true)
+public class RedisVersionCounter implements CatalogVersions.Counter {
+
+    static final String KEY_PREFIX = "catalog:versao:";
+
+    private final StringRedisTemplate redis;
+
+    public RedisVersionCounter(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    @Override
+    public long increment(CatalogVersions.Table table) {
+        Long version = redis.opsForValue().increment(KEY_PREFIX + table.name());
+        if (version == null) {
+            throw new IllegalStateException("INCR returned no value");
+        }
+        return version;
+    }
+
+    @Override
+    public long current(CatalogVersions.Table table) {
+        String version = redis.opsForValue().get(KEY_PREFIX + table.name());
+        return version == null ? 0L : Long.parseLong(version);
+    }
+}
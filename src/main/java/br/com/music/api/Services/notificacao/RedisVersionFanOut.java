@@ -0,0 +1,76 @@
+package br.com.music.api.Services.notificacao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import br.com.music.api.Services.CatalogVersions;
+
+/**
+ * Relays {@link CatalogVersions} bumps between instances over Redis pub/sub, so a write handled
+ * by one instance changes the ETags and invalidates the cached listings of all of them. Messages
+ * are {@code "<instance> TABLE=version,TABLE=version"} with the versions taken from
+ * {@link RedisVersionCounter}; an instance ignores its own.
+ * <p>
+ * Delivery is best effort: a message lost while Redis is unreachable leaves that instance stale
+ * until the response cache TTL runs out (see {@code ListingResponseCacheFilter}).
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.fan-out", havingValue = "redis", matchIfMissing = true)
+@ConditionalOnProperty(name = "app.migrate-only", havingValue = "false", matchIfMissing = true)
+public class RedisVersionFanOut implements MessageListener {
+
+    static final String CHANNEL = "catalog:versoes";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisVersionFanOut.class);
+
+    private final String instance = UUID.randomUUID().toString();
+    private final StringRedisTemplate redis;
+    private final CatalogVersions versions;
+
+    public RedisVersionFanOut(StringRedisTemplate redis, CatalogVersions versions) {
+        this.redis = redis;
+        this.versions = versions;
+    }
+
+    @EventListener
+    public void bumped(CatalogVersions.Bumped event) {
+        StringJoiner tables = new StringJoiner(",");
+        for (int i = 0; i < event.tables().length; i++) {
+            tables.add(event.tables()[i].name() + "=" + event.versions()[i]);
+        }
+        try {
+            redis.convertAndSend(CHANNEL, instance + " " + tables);
+        } catch (RuntimeException e) {
+            log.warn("Could not publish catalogue version bump: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int space = body.indexOf(' ');
+        if (space < 0 || body.substring(0, space).equals(instance)) {
+            return;
+        }
+        try {
+            for (String bump : body.substring(space + 1).split(",")) {
+                int equals = bump.indexOf('=');
+                versions.apply(CatalogVersions.Table.valueOf(bump.substring(0, equals)),
+                        Long.parseLong(bump.substring(equals + 1)));
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // Sent by an instance running a different version of the catalogue tables
+            log.warn("Ignoring catalogue version bump '{}'", body);
+        }
+    }
+}
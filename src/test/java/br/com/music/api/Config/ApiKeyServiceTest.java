@@ -0,0 +1,90 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.music.api.Domain.ApiKey;
+import br.com.music.api.Repository.ApiKeyRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyServiceTest {
+
+    @Mock
+    ApiKeyRepository repository;
+
+    ApiKeyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ApiKeyService(repository, 60000, 100);
+    }
+
+    private ApiKeyService.IssuedKey issue() {
+        when(repository.save(any(ApiKey.class))).thenAnswer(invocation -> {
+            ApiKey apiKey = invocation.getArgument(0);
+            apiKey.setId(1L);
+            return apiKey;
+        });
+        ApiKeyService.IssuedKey issued = service.issue("batch", List.of("user", "ROLE_ADMIN"), null);
+        lenient().when(repository.findByKeyHashAndAtivoTrue(issued.apiKey().getKeyHash()))
+                .thenReturn(Optional.of(issued.apiKey()));
+        return issued;
+    }
+
+    @Test
+    void issue_StoresHashAndNormalizedScopes() {
+        ApiKeyService.IssuedKey issued = issue();
+
+        assertTrue(issued.token().startsWith(ApiKeyService.TOKEN_PREFIX));
+        assertNotEquals(issued.token(), issued.apiKey().getKeyHash());
+        assertEquals("ADMIN,USER", issued.apiKey().getScopes());
+    }
+
+    @Test
+    void authenticate_CachesValidKeys() {
+        ApiKeyService.IssuedKey issued = issue();
+
+        ApiKeyService.ApiKeyPrincipal first = service.authenticate(issued.token()).orElseThrow();
+        ApiKeyService.ApiKeyPrincipal second = service.authenticate(issued.token()).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(RoleAuthorities.fromClaim("ADMIN,USER"), first.authorities());
+        verify(repository, times(1)).findByKeyHashAndAtivoTrue(anyString());
+    }
+
+    @Test
+    void authenticate_CachesUnknownKeysAndSkipsMalformedOnes() {
+        String unknown = ApiKeyService.TOKEN_PREFIX + "AAAAAAAAAAAAAAAAAAAAAA";
+        when(repository.findByKeyHashAndAtivoTrue(anyString())).thenReturn(Optional.empty());
+
+        assertTrue(service.authenticate(unknown).isEmpty());
+        assertTrue(service.authenticate(unknown).isEmpty());
+        assertTrue(service.authenticate("not-a-key").isEmpty());
+
+        verify(repository, times(1)).findByKeyHashAndAtivoTrue(anyString());
+    }
+
+    @Test
+    void revoke_EvictsCachedKey() {
+        ApiKeyService.IssuedKey issued = issue();
+        assertTrue(service.authenticate(issued.token()).isPresent());
+        when(repository.findById(1L)).thenReturn(Optional.of(issued.apiKey()));
+        when(repository.findByKeyHashAndAtivoTrue(issued.apiKey().getKeyHash())).thenReturn(Optional.empty());
+
+        assertTrue(service.revoke(1L));
+
+        assertTrue(service.authenticate(issued.token()).isEmpty());
+        assertFalse(issued.apiKey().getAtivo());
+    }
+}
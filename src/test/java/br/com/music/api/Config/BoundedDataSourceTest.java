@@ -0,0 +1,68 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedDataSourceTest {
+
+    @Test
+    void getConnection_TimesOutWhenAllPermitsAreTaken() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        BoundedDataSource dataSource = new BoundedDataSource(target, 1, 50);
+
+        Connection first = dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        first.close();
+        first.close();
+        assertEquals(1, dataSource.getAvailablePermits(), "closing twice must release a single permit");
+        dataSource.getConnection().close();
+    }
+
+    @Test
+    void getConnection_ReleasesPermitWhenTargetFails() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("down"));
+        BoundedDataSource dataSource = new BoundedDataSource(target, 1, 50);
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_PassesRemainingBudgetToTarget() throws Exception {
+        DataSource target = mock(DataSource.class);
+        long[] granted = new long[1];
+        BoundedDataSource dataSource = new BoundedDataSource(target, 1, 1000, remaining -> {
+            granted[0] = remaining;
+            return mock(Connection.class);
+        });
+
+        Connection first = dataSource.getConnection();
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(300);
+                first.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        dataSource.getConnection().close();
+        releaser.join();
+
+        assertTrue(granted[0] <= 700, "time parked on the semaphore must come off the pool wait, got " + granted[0]);
+        assertTrue(granted[0] > 0);
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+class CachedHealthIndicatorTest {
+
+    @Test
+    void servesCachedResultWithoutRunningTheCheckAgain() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch checked = new CountDownLatch(1);
+        try (CachedHealthIndicator indicator = new CachedHealthIndicator("test", () -> {
+            calls.incrementAndGet();
+            checked.countDown();
+            return Health.up().build();
+        }, Duration.ofHours(1), Duration.ofSeconds(5))) {
+            assertTrue(checked.await(5, TimeUnit.SECONDS));
+            awaitStatus(indicator, Status.UP);
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(Status.UP, indicator.health().getStatus());
+            }
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Test
+    void reportsFailedCheckAsDown() throws Exception {
+        try (CachedHealthIndicator indicator = new CachedHealthIndicator("test", () -> {
+            throw new IllegalStateException("connection refused");
+        }, Duration.ofHours(1), Duration.ofSeconds(5))) {
+            awaitStatus(indicator, Status.DOWN);
+            assertTrue(indicator.health().getDetails().get("error").toString().contains("connection refused"));
+        }
+    }
+
+    @Test
+    void reportsHangingCheckAsDownAfterTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (CachedHealthIndicator indicator = new CachedHealthIndicator("test", () -> {
+            release.await();
+            return Health.up().build();
+        }, Duration.ofHours(1), Duration.ofMillis(500))) {
+            assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+            awaitStatus(indicator, Status.DOWN);
+
+            release.countDown();
+            awaitStatus(indicator, Status.UP);
+        }
+    }
+
+    private static void awaitStatus(CachedHealthIndicator indicator, Status expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!expected.equals(indicator.health().getStatus()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, indicator.health().getStatus());
+    }
+}
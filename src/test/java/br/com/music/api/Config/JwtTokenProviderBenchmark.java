@@ -0,0 +1,64 @@
+package br.com.music.api.Config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Cost of issuing an access token at login and of validating one on every authenticated
+ * request, for each supported signing algorithm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    JwtSigningKeys.Algorithm algorithm;
+
+    JwtTokenProvider provider;
+    String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(new JwtSigningKeys(JwtTokenProviderTest.SECRET, algorithm, "", ""));
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 300000L);
+        ReflectionTestUtils.setField(provider, "jwtRefreshExpirationMs", 604800000L);
+        token = provider.generateTokenFromUsername("admin", "ADMIN,USER");
+    }
+
+    @Benchmark
+    public String generate() {
+        return provider.generateTokenFromUsername("admin", "ADMIN,USER");
+    }
+
+    @Benchmark
+    public Claims validate() {
+        return provider.parseClaims(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtTokenProviderTest {
+
+    static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidationPurposesOnly12345678";
+
+    JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = newProvider(new JwtSigningKeys(SECRET, JwtSigningKeys.Algorithm.HS256, "", ""));
+    }
+
+    private static JwtTokenProvider newProvider(JwtSigningKeys signingKeys) {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(signingKeys);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 300000L);
+        ReflectionTestUtils.setField(tokenProvider, "jwtRefreshExpirationMs", 604800000L);
+        return tokenProvider;
+    }
+
+    @Test
+    void generateToken_EmbedsRolesClaim() {
+        var authentication = new UsernamePasswordAuthenticationToken("admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        Claims claims = provider.parseClaims(provider.generateToken(authentication));
+
+        assertNotNull(claims);
+        assertEquals("admin", claims.getSubject());
+        assertEquals("ADMIN,USER", claims.get(JwtTokenProvider.ROLES_CLAIM, String.class));
+    }
+
+    @Test
+    void fromClaim_ReturnsSameInternedSet() {
+        Set<GrantedAuthority> first = RoleAuthorities.fromClaim("ADMIN,USER");
+        Set<GrantedAuthority> second = RoleAuthorities.fromClaim("ADMIN,USER");
+
+        assertSame(first, second);
+        assertTrue(first.contains(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        assertTrue(RoleAuthorities.fromClaim(null).isEmpty());
+    }
+
+    @Test
+    void parseClaims_ReturnsNullForTamperedToken() {
+        String token = provider.generateTokenFromUsername("user", "USER");
+
+        assertNull(provider.parseClaims(token.substring(0, token.length() - 2) + "xx"));
+    }
+
+    @Test
+    void parseClaims_CountsValidationsByResult() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtTokenProvider metered = new JwtTokenProvider(
+                new JwtSigningKeys(SECRET, JwtSigningKeys.Algorithm.HS256, "", ""), registry);
+        ReflectionTestUtils.setField(metered, "jwtExpirationMs", 300000L);
+        String token = metered.generateTokenFromUsername("user", "USER");
+
+        metered.parseClaims(token);
+        metered.parseClaims(token.substring(0, token.length() - 2) + "xx");
+        metered.parseClaims("not-a-jwt");
+        metered.parseClaims("");
+
+        assertEquals(1, registry.get("jwt.validation").tag("result", "valid").timer().count());
+        assertEquals(1, registry.get("jwt.validation").tag("result", "invalid_signature").timer().count());
+        assertEquals(1, registry.get("jwt.validation").tag("result", "malformed").timer().count());
+        assertEquals(1, registry.get("jwt.validation").tag("result", "empty").timer().count());
+        assertEquals(0, registry.get("jwt.validation").tag("result", "expired").timer().count());
+    }
+
+    @Test
+    void eddsaTokens_CarryKidAndArePublishedInJwks() {
+        JwtSigningKeys signingKeys = new JwtSigningKeys(SECRET, JwtSigningKeys.Algorithm.EdDSA, "", "key-1");
+        JwtTokenProvider eddsaProvider = newProvider(signingKeys);
+
+        String token = eddsaProvider.generateTokenFromUsername("admin", "ADMIN");
+
+        assertNotNull(eddsaProvider.parseClaims(token));
+        assertNull(provider.parseClaims(token), "HS256 provider must not accept EdDSA tokens");
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) signingKeys.getJwks().get("keys");
+        assertEquals(1, keys.size());
+        assertEquals("key-1", keys.get(0).get("kid"));
+        assertEquals("OKP", keys.get(0).get("kty"));
+        assertFalse(keys.get(0).containsKey("d"), "private part must never be published");
+    }
+}
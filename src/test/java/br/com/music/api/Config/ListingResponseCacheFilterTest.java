@@ -0,0 +1,235 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import br.com.music.api.Services.CatalogVersions;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ListingResponseCacheFilterTest {
+
+    static final String BODY = "[" + "{\"id\":1,\"titulo\":\"Abbey Road\"},".repeat(50) + "{}]";
+
+    final AtomicInteger calls = new AtomicInteger();
+    final CatalogVersions versions = new CatalogVersions();
+    final ListingResponseCacheFilter filter = filter(versions, () -> 0L);
+
+    private MockHttpServletResponse get(String query, String ifNoneMatch) throws Exception {
+        return getFrom(filter, query, ifNoneMatch);
+    }
+
+    private MockHttpServletResponse getFrom(ListingResponseCacheFilter target, String ifNoneMatch) throws Exception {
+        return getFrom(target, null, ifNoneMatch);
+    }
+
+    private MockHttpServletResponse getFrom(ListingResponseCacheFilter target, String query, String ifNoneMatch)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/albuns");
+        request.setContextPath("/api");
+        if (query != null) {
+            request.setQueryString(query);
+            for (String pair : query.split("&")) {
+                String[] parts = pair.split("=");
+                request.addParameter(parts[0], parts[1]);
+            }
+        }
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        target.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws java.io.IOException {
+                calls.incrementAndGet();
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    @Test
+    void hitIsServedPrecompressedWithoutCallingTheController() throws Exception {
+        get("page=0&size=20", null);
+        MockHttpServletResponse hit = get("size=20&page=0", null);
+
+        assertEquals(1, calls.get());
+        assertEquals("gzip", hit.getHeader("Content-Encoding"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(hit.getContentAsByteArray()))) {
+            assertEquals(BODY, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void ifNoneMatchReturnsNotModifiedUntilTheTableChanges() throws Exception {
+        String etag = get(null, null).getHeader("ETag");
+
+        MockHttpServletResponse notModified = get(null, etag);
+        assertEquals(304, notModified.getStatus());
+        assertEquals(1, calls.get());
+
+        versions.bump(CatalogVersions.Table.ALBUM);
+
+        MockHttpServletResponse changed = get(null, etag);
+        assertEquals(200, changed.getStatus());
+        assertNotEquals(etag, changed.getHeader("ETag"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void routeCoversListAndIdPathsOnly() {
+        assertEquals("/v1/albuns", ListingResponseCacheFilter.route("/v1/albuns"));
+        assertEquals("/v1/albuns", ListingResponseCacheFilter.route("/v1/albuns/42"));
+        assertNull(ListingResponseCacheFilter.route("/v1/albuns/42/detail"));
+        assertNull(ListingResponseCacheFilter.route("/v1/export/albuns"));
+    }
+
+    @Test
+    void pathsOutsideTheRoutesPassThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/albuns/5/detail");
+        request.setContextPath("/api");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                calls.incrementAndGet();
+            }
+        }));
+
+        assertEquals(1, calls.get());
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void keyIgnoresParameterOrder() {
+        assertEquals(
+                ListingResponseCacheFilter.key("/v1/albuns", Map.of("size", new String[] {"20"}, "page", new String[] {"1"})),
+                ListingResponseCacheFilter.key("/v1/albuns", Map.of("page", new String[] {"1"}, "size", new String[] {"20"})));
+    }
+
+    @Test
+    void bumpOnOneInstanceInvalidatesTheOther() throws Exception {
+        // Two instances sharing their versions and relaying bumps to each other, as Redis does
+        CatalogVersions.Counter counter = new SharedCounter();
+        CatalogVersions[] remote = new CatalogVersions[1];
+        CatalogVersions local = new CatalogVersions(event -> relay((CatalogVersions.Bumped) event, remote[0]), counter);
+        remote[0] = new CatalogVersions(event -> { }, counter);
+        ListingResponseCacheFilter writer = filter(local, () -> 0L);
+        ListingResponseCacheFilter reader = filter(remote[0], () -> 0L);
+
+        String etag = getFrom(reader, null).getHeader("ETag");
+        assertEquals(304, getFrom(reader, etag).getStatus());
+
+        local.bump(CatalogVersions.Table.ALBUM);
+        getFrom(writer, null);
+
+        MockHttpServletResponse changed = getFrom(reader, etag);
+        assertEquals(200, changed.getStatus());
+        assertNotEquals(etag, changed.getHeader("ETag"));
+        assertEquals(3, calls.get(), "the reader must go back to the controller instead of its cached body");
+    }
+
+    @Test
+    void sharedVersionsGiveTheSameTagOnEveryInstanceAndAfterRestart() throws Exception {
+        CatalogVersions.Counter counter = new SharedCounter();
+        CatalogVersions first = new CatalogVersions(event -> { }, counter);
+        first.bump(CatalogVersions.Table.ALBUM);
+
+        String etag = getFrom(filter(first, () -> 0L), null).getHeader("ETag");
+
+        // Another instance, or this one restarted, starts from the shared versions
+        CatalogVersions started = new CatalogVersions(event -> { }, counter);
+        assertEquals(304, getFrom(filter(started, () -> 0L), etag).getStatus());
+    }
+
+    @Test
+    void failingCounterFallsBackToTagsOfItsOwn() throws Exception {
+        SharedCounter counter = new SharedCounter();
+        CatalogVersions versions = new CatalogVersions(event -> { }, counter);
+        ListingResponseCacheFilter target = filter(versions, () -> 0L);
+        String etag = getFrom(target, null).getHeader("ETag");
+
+        counter.down = true;
+        versions.bump(CatalogVersions.Table.ALBUM);
+        counter.down = false;
+        versions.apply(CatalogVersions.Table.ALBUM, 1);
+
+        MockHttpServletResponse changed = getFrom(target, etag);
+        assertEquals(200, changed.getStatus());
+        String local = changed.getHeader("ETag");
+        versions.apply(CatalogVersions.Table.ALBUM, 2);
+        assertNotEquals(local, getFrom(target, null).getHeader("ETag"), "a relayed bump must still change the tag");
+        assertTrue(etag.startsWith("\"s."));
+        assertFalse(local.startsWith("\"s."), "local tags must not look like shared ones");
+    }
+
+    @Test
+    void missedBumpIsStaleForAtMostTheTtl() throws Exception {
+        // The bump never reaches the second instance
+        CatalogVersions local = new CatalogVersions();
+        CatalogVersions remote = new CatalogVersions();
+        long[] now = {0};
+        ListingResponseCacheFilter reader = filter(remote, () -> now[0]);
+
+        String etag = getFrom(reader, null).getHeader("ETag");
+        local.bump(CatalogVersions.Table.ALBUM);
+
+        now[0] = 59_999;
+        assertEquals(304, getFrom(reader, etag).getStatus());
+
+        now[0] = 60_000;
+        MockHttpServletResponse expired = getFrom(reader, etag);
+        assertEquals(200, expired.getStatus());
+        assertNotEquals(etag, expired.getHeader("ETag"));
+        assertEquals(2, calls.get());
+    }
+
+    private static void relay(CatalogVersions.Bumped event, CatalogVersions to) {
+        for (int i = 0; i < event.tables().length; i++) {
+            to.apply(event.tables()[i], event.versions()[i]);
+        }
+    }
+
+    // Stands in for the Redis counters
+    static class SharedCounter implements CatalogVersions.Counter {
+
+        final Map<CatalogVersions.Table, AtomicLong> versions = new ConcurrentHashMap<>();
+        volatile boolean down;
+
+        @Override
+        public long increment(CatalogVersions.Table table) {
+            if (down) {
+                throw new IllegalStateException("Redis is down");
+            }
+            return versions.computeIfAbsent(table, t -> new AtomicLong()).incrementAndGet();
+        }
+
+        @Override
+        public long current(CatalogVersions.Table table) {
+            return versions.computeIfAbsent(table, t -> new AtomicLong()).get();
+        }
+    }
+
+    private static ListingResponseCacheFilter filter(CatalogVersions versions, LongSupplier clock) {
+        return new ListingResponseCacheFilter(
+                Map.of("/v1/albuns", new CatalogVersions.Table[] {CatalogVersions.Table.ALBUM}), versions, 256, 60000, 100,
+                clock);
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import br.com.music.api.Domain.ArtistaAlbum;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+class NativeHintsConfigTest {
+
+    RuntimeHints hints = registered();
+
+    @Test
+    void registersEntitiesAndConnectionProxy() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ArtistaAlbum.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+    }
+
+    @Test
+    void registersDatasourceProxyJdbcProxies() {
+        for (Class<?> jdbcType : List.of(Connection.class, PreparedStatement.class, ResultSet.class)) {
+            assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, jdbcType).test(hints),
+                    jdbcType.getSimpleName());
+        }
+    }
+
+    @Test
+    void registersTypesLoadedByName() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.minio.messages.ErrorResponse")).test(hints));
+    }
+
+    @Test
+    void listsMinioMessageTypesFromTheClasspath() {
+        List<String> types = NativeHintsConfig.Hints.minioMessageTypes(getClass().getClassLoader());
+
+        assertTrue(types.contains("io.minio.messages.ErrorResponse"));
+        assertTrue(types.stream().allMatch(type -> type.startsWith("io.minio.messages.")));
+    }
+
+    @Test
+    void registersChangelogAndTemplates() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/changelog/db.master.xml").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("templates/login.html").test(hints));
+    }
+
+    private static RuntimeHints registered() {
+        RuntimeHints hints = new RuntimeHints();
+        new NativeHintsConfig.Hints().registerHints(hints, NativeHintsConfigTest.class.getClassLoader());
+        return hints;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.music.api.Config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Per-request cost of the public path check in {@link JwtAuthenticationFilter}, compared with
+ * the chain of {@code String.contains} calls it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicPathsBenchmark {
+
+    @Param({"/api/v1/albuns", "/api/v1/artistas-albuns/42", "/api/swagger-ui/index.html", "/api/v1/auth/login"})
+    String uri;
+
+    PublicPaths publicPaths = PublicPaths.defaults();
+
+    @Benchmark
+    public boolean trie() {
+        return publicPaths.matches(uri, "/api".length());
+    }
+
+    @Benchmark
+    public boolean legacyContains() {
+        return uri.contains("/swagger-ui") ||
+               uri.contains("/v3/api-docs") ||
+               uri.contains("/swagger-resources") ||
+               uri.contains("/api-docs") ||
+               uri.contains("/webjars") ||
+               uri.contains("/login") ||
+               uri.contains("/v1/auth");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PublicPathsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class PublicPathsTest {
+
+    PublicPaths publicPaths = PublicPaths.defaults();
+
+    @Test
+    void matchesDocumentationAndAuthEndpoints() {
+        assertTrue(publicPaths.matches("/swagger-ui", 0));
+        assertTrue(publicPaths.matches("/swagger-ui/index.html", 0));
+        assertTrue(publicPaths.matches("/swagger-ui.html", 0));
+        assertTrue(publicPaths.matches("/v3/api-docs", 0));
+        assertTrue(publicPaths.matches("/v3/api-docs.yaml", 0));
+        assertTrue(publicPaths.matches("/v3/api-docs/swagger-config", 0));
+        assertTrue(publicPaths.matches("/v1/auth/login", 0));
+        assertTrue(publicPaths.matches("/", 0));
+        assertTrue(publicPaths.matches("/login", 0));
+        assertTrue(publicPaths.matches("/actuator/health/readiness", 0));
+        assertTrue(publicPaths.matches("/ws", 0));
+    }
+
+    @Test
+    void doesNotMatchProtectedEndpoints() {
+        assertFalse(publicPaths.matches("/v1/albuns", 0));
+        assertFalse(publicPaths.matches("/v1/albuns/login", 0));
+        assertFalse(publicPaths.matches("/login/extra", 0));
+        assertFalse(publicPaths.matches("/v1/authx", 0));
+        assertFalse(publicPaths.matches("/swagger-uiX", 0));
+        assertFalse(publicPaths.matches("", 0));
+        assertFalse(publicPaths.matches("/actuator/metrics", 0));
+        assertFalse(publicPaths.matches("/actuator/prometheus", 0));
+        assertFalse(publicPaths.matches("/actuator/env", 0));
+        assertFalse(publicPaths.matches("/ws/other", 0));
+    }
+
+    @Test
+    void matchesRelativeToContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/refresh");
+        request.setContextPath("/api");
+        assertTrue(publicPaths.matches(request));
+
+        MockHttpServletRequest protectedRequest = new MockHttpServletRequest("GET", "/api/v1/artistas");
+        protectedRequest.setContextPath("/api");
+        assertFalse(publicPaths.matches(protectedRequest));
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc matchers over the statements {@link QueryInspectionFilter} counted for a request, e.g.
+ * {@code .andExpect(QueryBudget.atMost(2)).andExpect(QueryBudget.noRepeatedSelects())}.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> {
+            QueryInspector.RequestQueries queries = queries(result);
+            assertTrue(queries.count() <= maxStatements, () -> "Expected at most " + maxStatements
+                    + " statements but ran " + queries.count() + ": " + queries.byShape());
+        };
+    }
+
+    public static ResultMatcher noRepeatedSelects() {
+        return result -> {
+            Map<String, Integer> repeated = queries(result).repeatedSelects(2);
+            assertTrue(repeated.isEmpty(), () -> "Same SELECT issued more than once (N+1?): " + repeated);
+        };
+    }
+
+    private static QueryInspector.RequestQueries queries(MvcResult result) {
+        Object queries = result.getRequest().getAttribute(QueryInspectionFilter.ATTRIBUTE);
+        assertNotNull(queries, "QueryInspectionFilter did not run; is app.query-inspector.enabled on?");
+        return (QueryInspector.RequestQueries) queries;
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+class QueryInspectorTest {
+
+    QueryInspector inspector = new QueryInspector(200);
+
+    @AfterEach
+    void tearDown() {
+        QueryInspector.end();
+    }
+
+    @Test
+    void shapeCollapsesWhitespaceAndLiterals() {
+        assertEquals("select * from artista where id=? and nome = ?",
+                QueryInspector.shape("select *\n   from artista\twhere id=42 and nome = 'O''Brien'"));
+        assertEquals("select a1_0.id from album a1_0 where a1_0.id=?",
+                QueryInspector.shape("select a1_0.id from album a1_0 where a1_0.id=?"));
+    }
+
+    @Test
+    void countsStatementsOfCurrentRequestAndFlagsRepeatedSelects() {
+        QueryInspector.RequestQueries queries = QueryInspector.begin(false);
+
+        run("select * from artista_album where id = ?");
+        for (long id = 1; id <= 6; id++) {
+            run("select a.id, a.nome from artista a where a.id = " + id);
+        }
+        run("update album set titulo = ? where id = ?");
+        run("update album set titulo = ? where id = ?");
+
+        assertEquals(9, queries.count());
+        assertEquals(Map.of("select a.id, a.nome from artista a where a.id = ?", 6), queries.repeatedSelects(5));
+        assertTrue(queries.repeatedSelects(7).isEmpty());
+    }
+
+    @Test
+    void ignoresStatementsOutsideARequest() {
+        run("select 1");
+
+        QueryInspector.RequestQueries queries = QueryInspector.begin(false);
+        QueryInspector.end();
+        run("select 1");
+
+        assertEquals(0, queries.count());
+    }
+
+    private void run(String sql) {
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(1);
+        inspector.afterQuery(execution, List.of(new QueryInfo(sql)));
+    }
+}
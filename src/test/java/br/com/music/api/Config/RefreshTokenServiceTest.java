@@ -0,0 +1,132 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RefreshTokenServiceTest {
+
+    JwtTokenProvider tokenProvider;
+    RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(new JwtSigningKeys(JwtTokenProviderTest.SECRET,
+                JwtSigningKeys.Algorithm.HS256, "", ""));
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 300000L);
+        ReflectionTestUtils.setField(tokenProvider, "jwtRefreshExpirationMs", 604800000L);
+        service = service(Duration.ZERO);
+    }
+
+    private RefreshTokenService service(Duration grace) {
+        return new RefreshTokenService(tokenProvider, new InMemoryRefreshTokenStore(), grace);
+    }
+
+    private RefreshTokenService.IssuedTokens login() {
+        return service.issue(new UsernamePasswordAuthenticationToken("admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    private RefreshTokenService.IssuedTokens rotated(String refreshToken) {
+        RefreshTokenService.Refresh refresh = service.refresh(refreshToken);
+        assertEquals(RefreshTokenStore.Result.ROTATED, refresh.result());
+        return refresh.tokens();
+    }
+
+    private boolean rejected(String refreshToken) {
+        return service.refresh(refreshToken).tokens() == null;
+    }
+
+    @Test
+    void refresh_RotatesTokenAndKeepsRoles() {
+        RefreshTokenService.IssuedTokens first = login();
+
+        RefreshTokenService.IssuedTokens second = rotated(first.refreshToken());
+
+        assertNotEquals(first.refreshToken(), second.refreshToken());
+        assertEquals("ADMIN", tokenProvider.parseClaims(second.accessToken())
+                .get(JwtTokenProvider.ROLES_CLAIM, String.class));
+    }
+
+    @Test
+    void refresh_IssuesRolesChangedAfterLogin() {
+        RefreshTokenService.IssuedTokens first = login();
+        service.rolesChanged("admin", "USER");
+
+        RefreshTokenService.IssuedTokens second = rotated(first.refreshToken());
+
+        assertEquals("USER", tokenProvider.parseClaims(second.accessToken())
+                .get(JwtTokenProvider.ROLES_CLAIM, String.class));
+        assertEquals("USER", tokenProvider.parseClaims(rotated(second.refreshToken()).accessToken())
+                .get(JwtTokenProvider.ROLES_CLAIM, String.class));
+    }
+
+    @Test
+    void revokeAll_RevokesEveryFamilyOfTheUser() {
+        RefreshTokenService.IssuedTokens phone = login();
+        RefreshTokenService.IssuedTokens laptop = login();
+
+        service.revokeAll("admin");
+
+        assertEquals(RefreshTokenStore.Result.UNKNOWN, service.refresh(phone.refreshToken()).result());
+        assertEquals(RefreshTokenStore.Result.UNKNOWN, service.refresh(laptop.refreshToken()).result());
+    }
+
+    @Test
+    void refresh_ReuseRevokesWholeFamily() {
+        RefreshTokenService.IssuedTokens first = login();
+        RefreshTokenService.IssuedTokens second = rotated(first.refreshToken());
+
+        assertEquals(RefreshTokenStore.Result.REUSED, service.refresh(first.refreshToken()).result(),
+                "replayed token must be rejected");
+        assertTrue(rejected(second.refreshToken()), "family must be revoked after reuse");
+    }
+
+    @Test
+    void refresh_ConcurrentRefreshWithinGraceIsAskedToRetry() {
+        service = service(Duration.ofMinutes(1));
+        RefreshTokenService.IssuedTokens first = login();
+
+        RefreshTokenService.IssuedTokens second = rotated(first.refreshToken());
+        RefreshTokenService.Refresh parallel = service.refresh(first.refreshToken());
+
+        assertEquals(RefreshTokenStore.Result.ALREADY_ROTATED, parallel.result());
+        assertNull(parallel.tokens());
+        assertNotNull(rotated(second.refreshToken()), "family must survive the burst");
+    }
+
+    @Test
+    void refresh_ReplayOfOlderTokenIsReuseEvenWithinGrace() {
+        service = service(Duration.ofMinutes(1));
+        RefreshTokenService.IssuedTokens first = login();
+        RefreshTokenService.IssuedTokens second = rotated(first.refreshToken());
+        RefreshTokenService.IssuedTokens third = rotated(second.refreshToken());
+
+        // Only the token rotated last is covered by the window
+        assertEquals(RefreshTokenStore.Result.REUSED, service.refresh(first.refreshToken()).result());
+        assertTrue(rejected(third.refreshToken()), "family must be revoked after reuse");
+    }
+
+    @Test
+    void refresh_RejectsAccessTokens() {
+        RefreshTokenService.IssuedTokens tokens = login();
+
+        assertTrue(rejected(tokens.accessToken()));
+    }
+
+    @Test
+    void revoke_InvalidatesFamily() {
+        RefreshTokenService.IssuedTokens tokens = login();
+
+        service.revoke(tokens.refreshToken());
+
+        assertTrue(rejected(tokens.refreshToken()));
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.Principal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StompAuthenticationInterceptorTest {
+
+    JwtTokenProvider provider;
+    StompAuthenticationInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider(new JwtSigningKeys(JwtTokenProviderTest.SECRET, JwtSigningKeys.Algorithm.HS256, "", ""));
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 300000L);
+        ReflectionTestUtils.setField(provider, "jwtRefreshExpirationMs", 604800000L);
+        interceptor = new StompAuthenticationInterceptor(provider);
+    }
+
+    @Test
+    void connect_WithAccessToken_SetsUser() {
+        String token = provider.generateToken(new UsernamePasswordAuthenticationToken("admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        Message<?> result = interceptor.preSend(frame(StompCommand.CONNECT, "Bearer " + token, null), null);
+
+        Principal user = StompHeaderAccessor.wrap(result).getUser();
+        assertNotNull(user);
+        assertEquals("admin", user.getName());
+    }
+
+    @Test
+    void connect_WithoutOrWithInvalidToken_IsRejected() {
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.CONNECT, null, null), null));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.CONNECT, "Bearer not-a-jwt", null), null));
+    }
+
+    @Test
+    void connect_WithRefreshToken_IsRejected() {
+        String refresh = provider.generateRefreshTokenFromUsername("admin", "USER", "family");
+
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.CONNECT, "Bearer " + refresh, null), null));
+    }
+
+    @Test
+    void subscribe_OnlyToTopicsAfterConnect() {
+        Principal user = new UsernamePasswordAuthenticationToken("admin", null, List.of());
+
+        assertNotNull(interceptor.preSend(subscribe(user, "/topic/albuns"), null));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(subscribe(null, "/topic/albuns"), null));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(subscribe(user, "/app/albuns"), null));
+    }
+
+    @Test
+    void send_IsRejected() {
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.SEND, null, "/topic/albuns"), null));
+    }
+
+    private static Message<byte[]> subscribe(Principal user, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String authorization, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.music.api.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+class TailSamplingSpanExporterTest {
+
+    static final long START = TimeUnit.SECONDS.toNanos(1_700_000_000L);
+
+    InMemorySpanExporter collector = InMemorySpanExporter.create();
+    TailSamplingSpanExporter sampler;
+    SdkTracerProvider tracerProvider;
+    Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        sampler = new TailSamplingSpanExporter(collector, Duration.ofMillis(500), 0.0, 100, Duration.ofSeconds(30));
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(sampler)).build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void dropsFastTraces() {
+        Span root = root();
+        child(root, 10).end(START + millis(20), TimeUnit.NANOSECONDS);
+        root.end(START + millis(50), TimeUnit.NANOSECONDS);
+
+        assertTrue(collector.getFinishedSpanItems().isEmpty());
+        assertEquals(0, sampler.pendingTraces());
+    }
+
+    @Test
+    void exportsWholeSlowTraceIncludingSpansThatEndedFirst() {
+        Span root = root();
+        child(root, 10).end(START + millis(400), TimeUnit.NANOSECONDS);
+        root.end(START + millis(700), TimeUnit.NANOSECONDS);
+
+        List<SpanData> exported = collector.getFinishedSpanItems();
+        assertEquals(2, exported.size());
+        assertEquals(1, exported.stream().map(SpanData::getTraceId).distinct().count());
+    }
+
+    @Test
+    void exportsFastTraceWithFailedSpan() {
+        Span root = root();
+        Span query = child(root, 10);
+        query.setStatus(StatusCode.ERROR);
+        query.end(START + millis(20), TimeUnit.NANOSECONDS);
+        root.end(START + millis(50), TimeUnit.NANOSECONDS);
+
+        assertEquals(2, collector.getFinishedSpanItems().size());
+    }
+
+    @Test
+    void lateSpansFollowTheTraceDecision() {
+        Span slow = root();
+        Span lateOfSlow = child(slow, 100);
+        slow.end(START + millis(600), TimeUnit.NANOSECONDS);
+        lateOfSlow.end(START + millis(900), TimeUnit.NANOSECONDS);
+
+        Span fast = root();
+        Span lateOfFast = child(fast, 10);
+        fast.end(START + millis(50), TimeUnit.NANOSECONDS);
+        lateOfFast.end(START + millis(900), TimeUnit.NANOSECONDS);
+
+        List<SpanData> exported = collector.getFinishedSpanItems();
+        assertEquals(2, exported.size());
+        assertTrue(exported.stream().allMatch(span -> span.getTraceId().equals(slow.getSpanContext().getTraceId())));
+    }
+
+    private Span root() {
+        return tracer.spanBuilder("GET /v1/albuns/{id}/detail").setStartTimestamp(START, TimeUnit.NANOSECONDS).startSpan();
+    }
+
+    private Span child(Span parent, long startOffsetMillis) {
+        return tracer.spanBuilder("query").setParent(Context.root().with(parent))
+                .setStartTimestamp(START + millis(startOffsetMillis), TimeUnit.NANOSECONDS).startSpan();
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+}
@@ -4,10 +4,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -15,11 +18,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import br.com.music.api.Controller.dto.AlbumDetailDto;
 import br.com.music.api.Controller.dto.AlbumDto;
+import br.com.music.api.Controller.dto.ArtistaDto;
 import br.com.music.api.Services.AlbumService;
 
 @WebMvcTest(AlbumController.class)
@@ -42,7 +49,7 @@ class AlbumControllerTest {
     // }
 
     @Test
-    @WithMockUser
+    @WithMockUser(roles = "ADMIN")
     void testCreateReturnsCreated() throws Exception {
         AlbumDto created = new AlbumDto(10L, "New Album", LocalDate.of(2024, 1, 1), true);
         when(service.create(any(AlbumDto.class))).thenReturn(created);
@@ -52,4 +59,43 @@ class AlbumControllerTest {
                 .content("{\"titulo\":\"New\", \"dataLancamento\":\"2024-01-01\"}"))
             .andExpect(status().isCreated());
     }
+
+    @Test
+    @WithMockUser
+    void testListWithFieldsReturnsOnlySelectedFields() throws Exception {
+        when(service.list(any(), any(Pageable.class), eq("id,titulo")))
+            .thenReturn(new PageImpl<>(List.of(Map.<String, Object>of("id", 1L, "titulo", "Abbey Road"))));
+
+        mockMvc.perform(get("/v1/albuns").param("fields", "id,titulo"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].titulo").value("Abbey Road"))
+            .andExpect(jsonPath("$.content[0].dataLancamento").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void testListWithUnknownFieldReturnsBadRequest() throws Exception {
+        when(service.list(any(), any(Pageable.class), eq("capa")))
+            .thenThrow(new IllegalArgumentException("Unknown field 'capa'"));
+
+        mockMvc.perform(get("/v1/albuns").param("fields", "capa"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void testDetailReturnsArtistsAndImages() throws Exception {
+        AlbumDetailDto detail = new AlbumDetailDto(1L, "Abbey Road", LocalDate.of(1969, 9, 26), true,
+                List.of(new ArtistaDto(2L, "The Beatles", "BANDA", true)),
+                List.of(new AlbumDetailDto.Imagem(3L, "image/jpeg", 1024L, "http://localhost:9000/meu-bucket/capa?X-Amz-Expires=1800")));
+        when(service.detail(1L)).thenReturn(Optional.of(detail));
+        when(service.detail(2L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/v1/albuns/1/detail"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.artistas[0].nome").value("The Beatles"))
+            .andExpect(jsonPath("$.imagens[0].url").exists());
+        mockMvc.perform(get("/v1/albuns/2/detail"))
+            .andExpect(status().isNotFound());
+    }
 }
@@ -2,8 +2,12 @@ package br.com.music.api.Controller;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 
 import java.util.List;
@@ -11,9 +15,12 @@ import java.util.List;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -36,12 +43,28 @@ class AlbumImagemControllerTest {
     @Test
     @WithMockUser
     void testListReturnsOk() throws Exception {
-        when(service.list()).thenReturn(List.of(new AlbumImagemDto(1L, "images", "album-001.jpg", "image/jpeg", 102400L, 1L)));
+        when(service.list(isNull(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(new AlbumImagemDto(1L, "images", "album-001.jpg", "image/jpeg", 102400L, 1L))));
         mockMvc.perform(get("/v1/album-imagens")).andExpect(status().isOk());
     }
 
     @Test
     @WithMockUser
+    void testListFiltersByAlbumAndCapsPageSize() throws Exception {
+        when(service.list(eq(7L), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(new AlbumImagemDto(1L, "images", "album-007.jpg", "image/jpeg", 102400L, 7L))));
+
+        mockMvc.perform(get("/v1/album-imagens").param("albumId", "7").param("size", "5000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].albumId").value(7));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(service).list(eq(7L), pageable.capture());
+        assertEquals(100, pageable.getValue().getPageSize());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
     void testCreateReturnsCreated() throws Exception {
         AlbumImagemDto created = new AlbumImagemDto(10L, "images", "new-album.jpg", "image/jpeg", 102400L, 1L);
         when(service.create(any(AlbumImagemDto.class))).thenReturn(created);
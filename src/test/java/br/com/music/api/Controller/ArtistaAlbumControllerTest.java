@@ -34,7 +34,7 @@ class ArtistaAlbumControllerTest {
     ObjectMapper objectMapper;
 
     @Test
-    @WithMockUser
+    @WithMockUser(roles = "ADMIN")
     void testCreateReturnsCreated() throws Exception {
         ArtistaAlbumDto created = new ArtistaAlbumDto(10L, 1L, 2L, "Artist", "Album");
         when(service.create(any(ArtistaAlbumDto.class))).thenReturn(created);
@@ -2,6 +2,7 @@ package br.com.music.api.Controller;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -14,8 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.hamcrest.Matchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -25,6 +28,12 @@ import br.com.music.api.Services.ArtistaService;
 @WebMvcTest(ArtistaController.class)
 class ArtistaControllerTest {
 
+    // SecurityConfig is not part of the slice; this turns on the @PreAuthorize checks it enables
+    @TestConfiguration
+    @EnableMethodSecurity
+    static class MethodSecurity {
+    }
+
     @Autowired
     MockMvc mockMvc;
 
@@ -42,7 +51,7 @@ class ArtistaControllerTest {
     // }
 
     @Test
-    @WithMockUser
+    @WithMockUser(roles = "ADMIN")
     void testCreateReturnsCreated() throws Exception {
         ArtistaDto created = new ArtistaDto(10L, "New", "CANTOR", true);
         when(service.create(any(ArtistaDto.class))).thenReturn(created);
@@ -52,4 +61,14 @@ class ArtistaControllerTest {
                 .content("{\"nome\":\"New\", \"tipo\":\"CANTOR\"}"))
             .andExpect(status().isCreated());
     }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testCreateWithoutAdminRoleIsForbidden() throws Exception {
+        mockMvc.perform(post("/v1/artistas").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"New\", \"tipo\":\"CANTOR\"}"))
+            .andExpect(status().isForbidden());
+        verifyNoInteractions(service);
+    }
 }
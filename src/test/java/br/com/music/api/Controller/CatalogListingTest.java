@@ -0,0 +1,156 @@
+package br.com.music.api.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * The album listing filters and paging order, run as SQL against embedded PostgreSQL with the
+ * Liquibase schema. The seeded albums are dated in the 1950s, away from the sample data.
+ */
+@SpringBootTest(properties = {
+        "app.response-cache.enabled=false",
+        "auth.refresh-store=memory",
+        "app.notifications.fan-out=local"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogListingTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    long banda;
+    long outraBanda;
+    long compartilhado;
+    long inativo;
+    long inicioDaDecada;
+    long fimDaDecada;
+    long empate;
+    final List<Long> mesmoDia = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        banda = artista("Filtros");
+        outraBanda = artista("Outra");
+        compartilhado = album("Dividido", "1955-06-01", true, banda, outraBanda);
+        inativo = album("Fora de catálogo", "1955-06-01", false, banda);
+        inicioDaDecada = album("Primeiro", "1950-01-01", true, outraBanda);
+        fimDaDecada = album("Último", "1959-12-31", true, outraBanda);
+        album("Antes", "1949-12-31", true, outraBanda);
+        album("Depois", "1960-01-01", true, outraBanda);
+        empate = artista("Empate");
+        for (int i = 1; i <= 5; i++) {
+            mesmoDia.add(album("Empate " + i, "1957-03-03", true, empate));
+        }
+    }
+
+    @Test
+    void artistFilterListsAnAlbumOnceAndOnlyItsAlbums() throws Exception {
+        mockMvc.perform(get("/v1/albuns").param("artistaId", Long.toString(banda)).param("sort", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].id").value(Matchers.contains(
+                        (int) compartilhado, (int) inativo)));
+    }
+
+    @Test
+    void releaseDateBoundsAreInclusive() throws Exception {
+        mockMvc.perform(get("/v1/albuns").param("lancadoDe", "1950-01-01").param("lancadoAte", "1959-12-31")
+                        .param("ativo", "true").param("artistaId", Long.toString(outraBanda)).param("sort", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id").value(Matchers.contains(
+                        (int) compartilhado, (int) inicioDaDecada, (int) fimDaDecada)));
+    }
+
+    @Test
+    void openEndedReleaseDateBounds() throws Exception {
+        mockMvc.perform(get("/v1/albuns").param("lancadoAte", "1950-01-01").param("artistaId", Long.toString(outraBanda)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].titulo").value(Matchers.containsInAnyOrder("Antes", "Primeiro")));
+        mockMvc.perform(get("/v1/albuns").param("lancadoDe", "1959-12-31").param("artistaId", Long.toString(outraBanda)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].titulo").value(Matchers.containsInAnyOrder("Último", "Depois")));
+    }
+
+    @Test
+    void combinedFiltersAreAllApplied() throws Exception {
+        mockMvc.perform(get("/v1/albuns").param("artistaId", Long.toString(banda)).param("ativo", "false")
+                        .param("lancadoDe", "1955-01-01").param("lancadoAte", "1955-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value((int) inativo));
+    }
+
+    @Test
+    void pagesOverEqualSortValuesNeitherRepeatNorSkip() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            String body = mockMvc.perform(get("/v1/albuns").param("artistaId", Long.toString(empate))
+                            .param("sort", "dataLancamento").param("size", "2").param("page", Integer.toString(page)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<Number> ids = JsonPath.read(body, "$.content[*].id");
+            ids.forEach(id -> seen.add(id.longValue()));
+        }
+        assertEquals(mesmoDia, seen);
+    }
+
+    private long artista(String nome) {
+        return jdbc.queryForObject(
+                "INSERT INTO artista (nome, tipo, ativo) VALUES (?, 'BANDA', true) RETURNING id", Long.class, nome);
+    }
+
+    private long album(String titulo, String lancamento, boolean ativo, long... artistas) {
+        long id = jdbc.queryForObject("INSERT INTO album (titulo, data_lancamento, ativo) "
+                + "VALUES (?, CAST(? AS date), ?) RETURNING id", Long.class, titulo, lancamento, ativo);
+        for (long artista : artistas) {
+            jdbc.update("INSERT INTO artista_album (artista_id, album_id) VALUES (?, ?)", artista, id);
+        }
+        return id;
+    }
+}
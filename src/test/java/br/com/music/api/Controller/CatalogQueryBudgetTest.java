@@ -0,0 +1,97 @@
+package br.com.music.api.Controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.music.api.Config.QueryBudget;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Query budgets for the catalogue reads that used to fan out into one SELECT per row. Runs
+ * against embedded PostgreSQL with the Liquibase schema, so no database needs to be running.
+ */
+@SpringBootTest(properties = {
+        "app.response-cache.enabled=false",
+        "auth.refresh-store=memory",
+        "app.notifications.fan-out=local"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+class CatalogQueryBudgetTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    long artistaId;
+    long albumId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        artistaId = jdbc.queryForObject(
+                "INSERT INTO artista (nome, tipo, ativo) VALUES ('Orçamento', 'BANDA', true) RETURNING id", Long.class);
+        for (int i = 1; i <= 8; i++) {
+            albumId = jdbc.queryForObject("INSERT INTO album (titulo, data_lancamento, ativo) "
+                    + "VALUES (?, DATE '2001-01-01' + ?, true) RETURNING id", Long.class, "Disco " + i, i);
+            jdbc.update("INSERT INTO artista_album (artista_id, album_id) VALUES (?, ?)", artistaId, albumId);
+            jdbc.update("INSERT INTO album_imagem (bucket, object_key, content_type, tamanho, album_id) "
+                    + "VALUES ('meu-bucket', ?, 'image/jpeg', 1024, ?)", "budget-" + albumId + ".jpg", albumId);
+        }
+    }
+
+    @Test
+    void albumDetailIsASingleQuery() throws Exception {
+        mockMvc.perform(get("/v1/albuns/{id}/detail", albumId))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(1));
+    }
+
+    @Test
+    void artistaAlbumListingFetchesArtistsAndAlbumsWithTheRows() throws Exception {
+        mockMvc.perform(get("/v1/artistas-albuns").param("artistaId", Long.toString(artistaId)))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(2))
+                .andExpect(QueryBudget.noRepeatedSelects());
+    }
+
+    @Test
+    void albumListingDoesNotLoadAssociationsPerRow() throws Exception {
+        mockMvc.perform(get("/v1/albuns").param("artistaId", Long.toString(artistaId)))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(2))
+                .andExpect(QueryBudget.noRepeatedSelects());
+    }
+}
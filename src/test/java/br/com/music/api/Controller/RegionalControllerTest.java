@@ -41,7 +41,7 @@ class RegionalControllerTest {
     }
 
     @Test
-    @WithMockUser
+    @WithMockUser(roles = "ADMIN")
     void testCreateReturnsCreated() throws Exception {
         RegionalDto created = new RegionalDto(2, "South America", true);
         when(service.create(any(RegionalDto.class))).thenReturn(created);
@@ -1,6 +1,7 @@
 package br.com.music.api.Services;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,15 @@ class ArtistaServiceTest {
     @Mock
     ArtistaMapper mapper;
 
+    @Mock
+    CatalogVersions versions;
+
+    @Mock
+    CatalogChanges changes;
+
+    @Mock
+    SuggestService suggestions;
+
     @InjectMocks
     ArtistaService service;
 
@@ -27,17 +37,17 @@ class ArtistaServiceTest {
     @Test
     void create_SavesAndReturnsDto() {
         ArtistaDto dto = new ArtistaDto(null, "New", "CANTOR", true);
-        Artista entidade = new Artista();
-        entidade.setNome("New");
-        when(mapper.toEntity(dto)).thenReturn(entidade);
         Artista saved = new Artista();
         saved.setId(5L);
         saved.setNome("New");
-        when(repository.save(entidade)).thenReturn(saved);
+        when(repository.save(any(Artista.class))).thenReturn(saved);
         when(mapper.toDto(saved)).thenReturn(new ArtistaDto(5L, "New", "CANTOR", true));
 
         ArtistaDto res = service.create(dto);
         assertNotNull(res);
         assertEquals(5L, res.getId());
+        verify(versions).bump(CatalogVersions.Table.ARTISTA);
+        verify(changes).record(CatalogChanges.Entidade.ARTISTA, 5L, CatalogChanges.Operacao.CRIADO);
+        verify(suggestions).saved(SuggestService.Tipo.ARTISTA, 5L, "New", true);
     }
 }
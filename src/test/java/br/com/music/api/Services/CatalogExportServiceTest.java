@@ -0,0 +1,69 @@
+package br.com.music.api.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.music.api.Controller.dto.AlbumDto;
+import br.com.music.api.Controller.dto.ArtistaDto;
+import br.com.music.api.Repository.AlbumRepository;
+import br.com.music.api.Repository.ArtistaAlbumRepository;
+import br.com.music.api.Repository.ArtistaRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogExportServiceTest {
+
+    @Mock
+    ArtistaRepository artistaRepository;
+
+    @Mock
+    AlbumRepository albumRepository;
+
+    @Mock
+    ArtistaAlbumRepository artistaAlbumRepository;
+
+    @Test
+    void export_WritesOneObjectPerLine() throws Exception {
+        CatalogExportService service = new CatalogExportService(artistaRepository, albumRepository,
+                artistaAlbumRepository, new ObjectMapper());
+        when(artistaRepository.streamAllForExport()).thenReturn(Stream.of(
+                new ArtistaDto(1L, "Queen", "BANDA", true),
+                new ArtistaDto(2L, "Adele \"21\"", "CANTOR", null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.export(CatalogExportService.Dataset.ARTISTAS, out);
+
+        assertEquals(2, rows);
+        assertEquals("""
+                {"id":1,"nome":"Queen","tipo":"BANDA","ativo":true}
+                {"id":2,"nome":"Adele \\"21\\"","tipo":"CANTOR","ativo":null}
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_ClosesCursorAndWritesIsoDates() throws Exception {
+        CatalogExportService service = new CatalogExportService(artistaRepository, albumRepository,
+                artistaAlbumRepository, new ObjectMapper());
+        Stream<AlbumDto> rows = Stream.of(new AlbumDto(3L, "Abbey Road", LocalDate.of(1969, 9, 26), true));
+        Runnable onClose = mock(Runnable.class);
+        when(albumRepository.streamAllForExport()).thenReturn(rows.onClose(onClose));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(CatalogExportService.Dataset.ALBUNS, out);
+
+        assertEquals("{\"id\":3,\"titulo\":\"Abbey Road\",\"dataLancamento\":\"1969-09-26\",\"ativo\":true}\n",
+                out.toString(StandardCharsets.UTF_8));
+        verify(onClose).run();
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.music.api.Services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.music.api.Controller.dto.AlbumDto;
+import br.com.music.api.Controller.dto.AlbumImagemDto;
+import br.com.music.api.Controller.dto.ArtistaAlbumDto;
+import br.com.music.api.Domain.Album;
+import br.com.music.api.Domain.AlbumImagem;
+import br.com.music.api.Domain.Artista;
+import br.com.music.api.Domain.ArtistaAlbum;
+import br.com.music.api.Domain.Enums.TipoArtista;
+
+/**
+ * Per-page cost of the listing endpoints outside the database: entity to DTO mapping and
+ * Jackson serialization of the resulting list, at the default and maximum page sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogMappingBenchmark {
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    // toDto does not touch the repositories
+    final AlbumMapper albumMapper = new AlbumMapper();
+    final ArtistaAlbumMapper artistaAlbumMapper = new ArtistaAlbumMapper(null, null);
+    final AlbumImagemMapper albumImagemMapper = new AlbumImagemMapper(null);
+    // Same modules and date handling as the ObjectMapper Spring Boot configures
+    final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    List<Album> albuns;
+    List<ArtistaAlbum> artistasAlbuns;
+    List<AlbumImagem> imagens;
+    List<AlbumDto> albumDtos;
+    List<ArtistaAlbumDto> artistaAlbumDtos;
+
+    @Setup
+    public void setUp() {
+        albuns = new ArrayList<>();
+        artistasAlbuns = new ArrayList<>();
+        imagens = new ArrayList<>();
+        for (long i = 1; i <= pageSize; i++) {
+            Artista artista = new Artista();
+            artista.setId(i);
+            artista.setNome("Artista " + i);
+            artista.setTipo(TipoArtista.BANDA);
+
+            Album album = new Album();
+            album.setId(i);
+            album.setTitulo("Álbum número " + i);
+            album.setDataLancamento(LocalDate.of(2000, 1, 1).plusDays(i));
+            albuns.add(album);
+
+            ArtistaAlbum artistaAlbum = new ArtistaAlbum();
+            artistaAlbum.setId(i);
+            artistaAlbum.setArtista(artista);
+            artistaAlbum.setAlbum(album);
+            artistasAlbuns.add(artistaAlbum);
+
+            AlbumImagem imagem = new AlbumImagem();
+            imagem.setId(i);
+            imagem.setBucket("meu-bucket");
+            imagem.setObjectKey("capa-" + i + ".jpg");
+            imagem.setContentType("image/jpeg");
+            imagem.setTamanho(102400L);
+            imagem.setAlbum(album);
+            imagens.add(imagem);
+        }
+        albumDtos = mapAlbuns();
+        artistaAlbumDtos = mapArtistasAlbuns();
+    }
+
+    @Benchmark
+    public List<AlbumDto> mapAlbuns() {
+        return albuns.stream().map(albumMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<ArtistaAlbumDto> mapArtistasAlbuns() {
+        return artistasAlbuns.stream().map(artistaAlbumMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<AlbumImagemDto> mapAlbumImagens() {
+        return imagens.stream().map(albumImagemMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeAlbuns() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(albumDtos);
+    }
+
+    @Benchmark
+    public byte[] serializeArtistasAlbuns() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(artistaAlbumDtos);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CatalogMappingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
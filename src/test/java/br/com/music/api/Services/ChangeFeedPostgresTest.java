@@ -0,0 +1,159 @@
+package br.com.music.api.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * The outbox queries of {@link ChangeFeed} against embedded PostgreSQL: polling only past
+ * finished transactions, catching up behind the buffer, and the retention watermark. Each test
+ * drives its own unstarted feed with a batch and buffer of two.
+ */
+@SpringBootTest(properties = {
+        "app.response-cache.enabled=false",
+        "auth.refresh-store=memory",
+        "app.notifications.fan-out=local"
+})
+class ChangeFeedPostgresTest {
+
+    private static final String INSERT = "INSERT INTO catalog_change (entidade, entidade_id, operacao) "
+            + "VALUES ('ALBUM', 1, 'CRIADO') RETURNING txid::text || '-' || id";
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    ChangeFeed feed;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    void emptyOutbox() {
+        jdbc.update("DELETE FROM catalog_change");
+        jdbc.update("UPDATE catalog_change_poda SET txid = '0'::xid8, change_id = 0");
+        feed = new ChangeFeed(jdbc, objectMapper, Duration.ofMillis(50), Duration.ofMillis(50),
+                Duration.ofDays(7), Duration.ofHours(1), 2, 2, false);
+    }
+
+    private ChangeFeed.Cursor insert() {
+        return ChangeFeed.Cursor.parse(jdbc.queryForObject(INSERT, String.class));
+    }
+
+    private static List<ChangeFeed.Cursor> cursors(ChangeFeed.Batch batch) {
+        return batch.changes().stream().map(ChangeFeed.Change::cursor).toList();
+    }
+
+    @Test
+    void pollWaitsForOlderTransactionsToFinish() throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute("INSERT INTO catalog_change (entidade, entidade_id, operacao) VALUES ('ARTISTA', 2, 'CRIADO')");
+            ChangeFeed.Cursor later = insert();
+
+            feed.poll();
+            // Committed, but an older transaction is still open and could commit behind it
+            assertEquals(ChangeFeed.Cursor.START, feed.head());
+
+            connection.commit();
+            feed.poll();
+            assertEquals(later, feed.head());
+        }
+        List<String> entidades = jdbc.queryForList("SELECT entidade FROM catalog_change ORDER BY txid, id", String.class);
+        assertEquals(List.of("ARTISTA", "ALBUM"), entidades);
+    }
+
+    @Test
+    void catchUpReadsTheTableThenMovesOnToTheBuffer() throws InterruptedException {
+        List<ChangeFeed.Cursor> inserted = List.of(insert(), insert(), insert(), insert(), insert());
+        feed.poll();
+
+        // The buffer keeps the last two; the first three are read from the table
+        ChangeFeed.Batch first = feed.next(ChangeFeed.Cursor.START, Duration.ZERO);
+        assertEquals(inserted.subList(0, 2), cursors(first));
+        ChangeFeed.Batch second = feed.next(first.position(), Duration.ZERO);
+        assertEquals(inserted.subList(2, 3), cursors(second));
+        assertEquals(inserted.get(2), second.position());
+        ChangeFeed.Batch buffered = feed.next(second.position(), Duration.ZERO);
+        assertEquals(inserted.subList(3, 5), cursors(buffered));
+    }
+
+    @Test
+    void catchUpOverAPrunedRangeStillAdvances() throws InterruptedException {
+        List<ChangeFeed.Cursor> inserted = List.of(insert(), insert(), insert(), insert(), insert());
+        feed.poll();
+        jdbc.update("DELETE FROM catalog_change WHERE id <= ?", inserted.get(2).id());
+
+        ChangeFeed.Batch batch = feed.next(ChangeFeed.Cursor.START, Duration.ZERO);
+
+        assertTrue(batch.changes().isEmpty());
+        assertEquals(inserted.get(2), batch.position());
+        assertEquals(inserted.subList(3, 5), cursors(feed.next(batch.position(), Duration.ZERO)));
+    }
+
+    @Test
+    void onlyCursorsBehindPrunedChangesMustReset() {
+        List<ChangeFeed.Cursor> inserted = List.of(insert(), insert(), insert());
+        jdbc.update("UPDATE catalog_change SET criado_em = now() - interval '30 days' WHERE id <= ?", inserted.get(1).id());
+
+        feed.prune();
+
+        assertEquals(inserted.get(1), feed.watermark());
+        assertFalse(feed.canResumeFrom(inserted.get(0)));
+        // Its own row is gone, but nothing after it was
+        assertTrue(feed.canResumeFrom(inserted.get(1)));
+        assertTrue(feed.canResumeFrom(inserted.get(2)));
+        assertTrue(feed.canResumeFrom(ChangeFeed.Cursor.START));
+        assertEquals(1, jdbc.queryForObject("SELECT count(*) FROM catalog_change", Integer.class));
+    }
+
+    @Test
+    void headStartsAtTheWatermarkWhenEverythingWasPruned() {
+        ChangeFeed.Cursor last = insert();
+        jdbc.update("UPDATE catalog_change SET criado_em = now() - interval '30 days'");
+        feed.prune();
+
+        feed.start();
+        try {
+            assertEquals(last, feed.head());
+            assertTrue(feed.canResumeFrom(feed.head()));
+        } finally {
+            feed.stop();
+        }
+    }
+}
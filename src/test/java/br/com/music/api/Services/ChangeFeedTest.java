@@ -0,0 +1,55 @@
+package br.com.music.api.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cursorRoundTripsAsEventId() {
+        ChangeFeed.Cursor cursor = new ChangeFeed.Cursor(7541L, 12L);
+
+        assertEquals("7541-12", cursor.toString());
+        assertEquals(cursor, ChangeFeed.Cursor.parse(cursor.toString()));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        for (String value : List.of("", "42", "-1-2", "a-1", "1-b", "1--2")) {
+            assertThrows(IllegalArgumentException.class, () -> ChangeFeed.Cursor.parse(value), value);
+        }
+    }
+
+    @Test
+    void cursorsOrderByTransactionThenId() {
+        // A later transaction may hold a lower id: commit order wins
+        assertTrue(new ChangeFeed.Cursor(10, 900).compareTo(new ChangeFeed.Cursor(11, 5)) < 0);
+        assertTrue(new ChangeFeed.Cursor(11, 5).compareTo(new ChangeFeed.Cursor(11, 4)) > 0);
+        assertEquals(0, new ChangeFeed.Cursor(11, 5).compareTo(new ChangeFeed.Cursor(11, 5)));
+    }
+
+    @Test
+    void subscriberAtHeadWaitsWithoutQuerying() throws InterruptedException {
+        ChangeFeed feed = new ChangeFeed(jdbcTemplate, new ObjectMapper(), Duration.ofSeconds(1), Duration.ofSeconds(15),
+                Duration.ofDays(7), Duration.ofHours(1), 500, 1024, false);
+
+        assertTrue(feed.next(feed.head(), Duration.ofMillis(20)).changes().isEmpty());
+        assertTrue(feed.canResumeFrom(ChangeFeed.Cursor.START));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
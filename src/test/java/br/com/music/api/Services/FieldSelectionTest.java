@@ -0,0 +1,31 @@
+package br.com.music.api.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class FieldSelectionTest {
+
+    @Test
+    void selectionKeepsDtoOrderAndPaths() {
+        Map<String, String> selected = ArtistaAlbumService.FIELDS.select(" albumTitulo,id,,id ");
+
+        assertEquals(List.of("id", "albumTitulo"), List.copyOf(selected.keySet()));
+        assertEquals("album.titulo", selected.get("albumTitulo"));
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> AlbumService.FIELDS.select("id,capa"));
+        assertTrue(e.getMessage().contains("'capa'"));
+    }
+
+    @Test
+    void emptySelectionIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> AlbumService.FIELDS.select(" , "));
+    }
+}
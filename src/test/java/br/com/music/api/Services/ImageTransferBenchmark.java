@@ -0,0 +1,71 @@
+package br.com.music.api.Services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of handing an image from the MinIO stream to the response: the base64 string served by
+ * {@code /v1/images/{id}}, the byte array buffered for {@code /raw}, and a plain streamed copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class ImageTransferBenchmark {
+
+    @Param({"65536", "1048576", "5242880"})
+    int size;
+
+    final MinioStorageService storage = new MinioStorageService(null, null);
+    byte[] image;
+
+    @Setup
+    public void setUp() {
+        image = new byte[size];
+        new Random(42).nextBytes(image);
+    }
+
+    @Benchmark
+    public String base64() throws IOException {
+        return storage.inputStreamToBase64(new ByteArrayInputStream(image));
+    }
+
+    @Benchmark
+    public byte[] buffered() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ByteArrayInputStream(image).transferTo(out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public long streamed() throws IOException {
+        return new ByteArrayInputStream(image).transferTo(OutputStream.nullOutputStream());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ImageTransferBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.music.api.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import br.com.music.api.Controller.dto.SearchResponse;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Keyset paging of {@link SearchService} against embedded PostgreSQL, where rows with the same
+ * name share a score and only (tipo, id) tells them apart at a page boundary.
+ */
+@SpringBootTest(properties = {
+        "app.response-cache.enabled=false",
+        "auth.refresh-store=memory",
+        "app.notifications.fan-out=local"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SearchPagingTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    SearchService service;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    final Set<String> seeded = new HashSet<>();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < 4; i++) {
+            seeded.add("ARTISTA:" + jdbc.queryForObject(
+                    "INSERT INTO artista (nome, tipo, ativo) VALUES ('Zumbizal', 'BANDA', true) RETURNING id", Long.class));
+            seeded.add("ALBUM:" + jdbc.queryForObject(
+                    "INSERT INTO album (titulo, data_lancamento, ativo) VALUES ('Zumbizal', DATE '2001-01-01', true) RETURNING id",
+                    Long.class));
+        }
+        seeded.add("ALBUM:" + jdbc.queryForObject(
+                "INSERT INTO album (titulo, data_lancamento, ativo) VALUES ('Zumbizal ao vivo', DATE '2002-01-01', true) RETURNING id",
+                Long.class));
+    }
+
+    @Test
+    void pagesAcrossEqualScoresNeitherRepeatNorSkip() {
+        for (int size = 1; size <= 4; size++) {
+            List<String> seen = new ArrayList<>();
+            String cursor = null;
+            do {
+                SearchResponse page = service.search("zumbizal", cursor, size);
+                page.getResultados().forEach(r -> seen.add(r.tipo() + ":" + r.id()));
+                cursor = page.getProximoCursor();
+            } while (cursor != null);
+
+            assertEquals(seeded.size(), seen.size(), "page size " + size);
+            assertEquals(seeded, new HashSet<>(seen), "page size " + size);
+        }
+    }
+
+    @Test
+    void pagesKeepScoreOrder() {
+        SearchResponse first = service.search("zumbizal", null, 8);
+        SearchResponse rest = service.search("zumbizal", first.getProximoCursor(), 8);
+
+        assertEquals(8, first.getResultados().size());
+        assertEquals(1, rest.getResultados().size());
+        assertEquals("Zumbizal ao vivo", rest.getResultados().get(0).nome());
+        assertNull(rest.getProximoCursor());
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.music.api.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cursorRoundTripsScoreExactly() {
+        SearchService.Cursor cursor = new SearchService.Cursor(0.60790646f, "ALBUM", 42L);
+
+        assertEquals(cursor, SearchService.decode(SearchService.encode(cursor)));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SearchService.decode("not-a-cursor!"));
+        assertThrows(IllegalArgumentException.class,
+                () -> SearchService.decode(SearchService.encode(new SearchService.Cursor(1f, "REGIONAL", 1L))));
+    }
+
+    @Test
+    void blankQueryIsRejectedWithoutQuerying() {
+        SearchService service = new SearchService(jdbcTemplate);
+
+        assertThrows(IllegalArgumentException.class, () -> service.search("  ", null, 20));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
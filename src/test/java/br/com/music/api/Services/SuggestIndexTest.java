@@ -0,0 +1,62 @@
+package br.com.music.api.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SuggestIndexTest {
+
+    private static List<Long> ids(List<SuggestIndex.Entry> entries) {
+        return entries.stream().map(SuggestIndex.Entry::id).toList();
+    }
+
+    private static SuggestIndex.Entry artista(long id, String nome, int popularidade) {
+        return new SuggestIndex.Entry(SuggestService.Tipo.ARTISTA, id, nome, popularidade);
+    }
+
+    @Test
+    void matchesAnyWordWithoutAccentsRankedByPopularity() {
+        SuggestIndex index = new SuggestIndex(10);
+        index.put(artista(1, "The Beatles", 13));
+        index.put(artista(2, "Beyoncé", 7));
+        index.put(artista(3, "Bee Gees", 20));
+        index.put(artista(4, "Queen", 15));
+
+        assertEquals(List.of(3L, 1L, 2L), ids(index.suggest("BE", 10)));
+        assertEquals(List.of(2L), ids(index.suggest("beyonce", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("the be", 10)));
+        assertEquals(List.of(3L), ids(index.suggest("gee", 10)));
+        assertEquals(List.of(), ids(index.suggest("bex", 10)));
+    }
+
+    @Test
+    void keepsOnlyTopKPerNodeAndRecoversAfterRemoval() {
+        SuggestIndex index = new SuggestIndex(2);
+        index.put(artista(1, "Banda A", 1));
+        index.put(artista(2, "Banda B", 2));
+        index.put(artista(3, "Banda C", 3));
+
+        assertEquals(List.of(3L, 2L), ids(index.suggest("banda", 10)));
+
+        index.remove(SuggestService.Tipo.ARTISTA, 3);
+        assertEquals(List.of(2L, 1L), ids(index.suggest("banda", 10)));
+        assertEquals(List.of(), ids(index.suggest("banda c", 10)));
+    }
+
+    @Test
+    void renameAndPopularityChangesReindexTheEntry() {
+        SuggestIndex index = new SuggestIndex(10);
+        index.put(artista(1, "Abba", 1));
+        index.put(artista(2, "Aerosmith", 2));
+
+        index.put(SuggestService.Tipo.ARTISTA, 1, "Ace of Base");
+        index.adjustPopularity(SuggestService.Tipo.ARTISTA, 1, 5);
+
+        assertEquals(List.of(1L, 2L), ids(index.suggest("a", 10)));
+        assertEquals(List.of(), ids(index.suggest("abba", 10)));
+        assertEquals(6, index.suggest("ace", 1).get(0).popularidade());
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.music.api.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.music.api.Controller.dto.SuggestionDto;
+import br.com.music.api.Services.SuggestService.Tipo;
+
+class SuggestServiceTest {
+
+    // Stands in for the database: the rows a scan or a read would return right now
+    final Map<Long, SuggestIndex.Entry> artistas = new LinkedHashMap<>();
+    final List<Object> published = new ArrayList<>();
+    Runnable duringScan = () -> { };
+
+    SuggestService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SuggestService(new SuggestService.Rows() {
+            @Override
+            public void scan(Consumer<SuggestIndex.Entry> sink) {
+                duringScan.run();
+                artistas.values().forEach(sink);
+            }
+
+            @Override
+            public SuggestIndex.Entry read(Tipo tipo, long id) {
+                return tipo == Tipo.ARTISTA ? artistas.get(id) : null;
+            }
+        }, published::add);
+    }
+
+    private void artista(long id, String nome, int popularidade) {
+        artistas.put(id, new SuggestIndex.Entry(Tipo.ARTISTA, id, nome, popularidade));
+    }
+
+    private List<Long> ids(String prefix) {
+        return service.suggest(prefix, 10).stream().map(SuggestionDto::id).toList();
+    }
+
+    @Test
+    void ranksByPopularityAndFollowsLinks() {
+        artista(1, "Queen", 1);
+        artista(2, "Queens of the Stone Age", 3);
+        artista(3, "Queensrÿche", 2);
+        service.rebuild();
+
+        assertEquals(List.of(2L, 3L, 1L), ids("queen"));
+
+        service.linked(1, 10, 1);
+        service.linked(1, 11, 1);
+        service.linked(1, 12, 1);
+
+        assertEquals(List.of(1L, 2L, 3L), ids("queen"));
+        assertTrue(published.contains(new SuggestService.Changed(Tipo.ARTISTA, 1)));
+        assertTrue(published.contains(new SuggestService.Changed(Tipo.ALBUM, 10)));
+    }
+
+    @Test
+    void linkCommittedDuringRebuildIsCountedOnce() {
+        artista(1, "Queen", 1);
+        artista(2, "Queens of the Stone Age", 3);
+        service.rebuild();
+
+        // The link commits while the scan runs, so the scanned rows already include it
+        duringScan = () -> {
+            artista(1, "Queen", 2);
+            service.linked(1, 10, 1);
+        };
+        assertTrue(service.rebuild());
+
+        // Counted twice, Queen would tie at 3 and win on name
+        assertEquals(List.of(2L, 1L), ids("queen"));
+    }
+
+    @Test
+    void renameAndRemovalDuringRebuildAreReadAgain() {
+        artista(1, "Queen", 1);
+        artista(2, "Abba", 1);
+        service.rebuild();
+
+        duringScan = () -> {
+            artista(1, "Queen II", 1);
+            service.saved(Tipo.ARTISTA, 1, "Queen II", true);
+            artistas.remove(2L);
+            service.deleted(Tipo.ARTISTA, 2);
+        };
+        service.rebuild();
+
+        assertEquals(List.of(1L), ids("queen ii"));
+        assertEquals(List.of(), ids("abba"));
+    }
+
+    @Test
+    void refreshReadsAnEntryChangedOnAnotherInstance() {
+        artista(1, "Queen", 1);
+        service.rebuild();
+
+        artista(1, "Freddie", 1);
+        service.refresh(Tipo.ARTISTA, 1);
+
+        assertEquals(List.of(1L), ids("fred"));
+        assertEquals(List.of(), ids("queen"));
+        assertEquals(List.of(), published);
+
+        artistas.remove(1L);
+        service.refresh(Tipo.ARTISTA, 1);
+
+        assertEquals(List.of(), ids("fred"));
+    }
+}
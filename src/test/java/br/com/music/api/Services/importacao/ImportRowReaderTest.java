@@ -0,0 +1,78 @@
+package br.com.music.api.Services.importacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import br.com.music.api.Controller.dto.AlbumDto;
+import br.com.music.api.Controller.dto.ArtistaDto;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+class ImportRowReaderTest {
+
+    static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+    static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private static ImportRowReader reader(String input, ImportFormat format, ImportTarget target) throws Exception {
+        return new ImportRowReader(new BufferedReader(new StringReader(input)), format, target, MAPPER, VALIDATOR);
+    }
+
+    @Test
+    void csv_ParsesQuotedFieldsAndRejectsInvalidRows() throws Exception {
+        ImportRowReader rows = reader("""
+                nome,tipo,ativo
+                "Earth, Wind & Fire",BANDA,true
+                ,CANTOR,
+                Adele,ORQUESTRA,
+                """, ImportFormat.CSV, ImportTarget.ARTISTAS);
+
+        ImportRowReader.Row first = rows.next();
+        assertEquals(2, first.line());
+        assertEquals("Earth, Wind & Fire", ((ArtistaDto) first.value()).getNome());
+
+        ImportRowReader.Row blankName = rows.next();
+        assertTrue(blankName.error().startsWith("nome:"), blankName.error());
+
+        ImportRowReader.Row badType = rows.next();
+        assertEquals(4, badType.line());
+        assertEquals("tipo: must be CANTOR or BANDA", badType.error());
+
+        assertNull(rows.next());
+    }
+
+    @Test
+    void ndjson_ReadsDatesAndSkipsCheckpointedLines() throws Exception {
+        ImportRowReader rows = reader("""
+                {"titulo":"Thriller","dataLancamento":"1982-11-30"}
+
+                {"titulo":"Abbey Road","dataLancamento":"1969-09-26","ativo":false}
+                {"titulo":"Broken",
+                """, ImportFormat.NDJSON, ImportTarget.ALBUNS);
+
+        rows.skipThrough(1);
+        assertTrue(rows.next().isBlank());
+
+        AlbumDto album = (AlbumDto) rows.next().value();
+        assertEquals(LocalDate.of(1969, 9, 26), album.getDataLancamento());
+        assertFalse(album.getAtivo());
+
+        assertNotNull(rows.next().error());
+    }
+
+    @Test
+    void appendCopyRecord_QuotesForCopyCsv() {
+        StringBuilder record = new StringBuilder();
+
+        ImportTarget.ARTISTAS.appendCopyRecord(record, 7, new ArtistaDto(null, " The \"Band\" ", "banda", null));
+
+        assertEquals("\"7\",\"The \"\"Band\"\"\",\"BANDA\",\"true\"\n", record.toString());
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.music.api.Services.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.music.api.Controller.dto.AlbumDto;
+
+class AlbumNotifierTest {
+
+    List<byte[]> published = new ArrayList<>();
+    AlbumNotifier notifier = new AlbumNotifier(new ObjectMapper().registerModule(new JavaTimeModule()), published::add);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void created_OutsideTransaction_PublishesSerializedAlbum() {
+        notifier.created(new AlbumDto(7L, "Abbey Road", LocalDate.of(1969, 9, 26), true));
+
+        assertEquals(1, published.size());
+        String json = new String(published.get(0), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"id\":7"), json);
+        assertTrue(json.contains("\"titulo\":\"Abbey Road\""), json);
+    }
+
+    @Test
+    void created_InsideTransaction_PublishesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        notifier.created(new AlbumDto(7L, "Abbey Road", LocalDate.of(1969, 9, 26), true));
+        assertTrue(published.isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    void created_RolledBack_PublishesNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        notifier.created(new AlbumDto(7L, "Abbey Road", LocalDate.of(1969, 9, 26), true));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(published.isEmpty());
+    }
+}
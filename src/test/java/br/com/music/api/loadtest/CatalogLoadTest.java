@@ -0,0 +1,233 @@
+package br.com.music.api.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Offline end-to-end load test: the application runs on a random port against embedded
+ * PostgreSQL binaries and an in-process S3 fake, the schema comes from the Liquibase changelogs
+ * and a synthetic catalogue is seeded before mixed traffic is driven for a fixed duration.
+ * <p>
+ * Excluded from the regular build; run with {@code ./mvnw -Ploadtest verify}. Sizing is taken
+ * from system properties ({@code loadtest.*}, see the fields below) and the report is printed
+ * and written as JSON to {@code loadtest.report}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CatalogLoadTest {
+
+    private static final int ALBUMS = Integer.getInteger("loadtest.albums", 20000);
+    private static final int IMAGES = Integer.getInteger("loadtest.images", 200);
+    private static final int IMAGE_SIZE = Integer.getInteger("loadtest.image-size", 256 * 1024);
+    private static final int UPLOAD_SIZE = Integer.getInteger("loadtest.upload-size", 64 * 1024);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60));
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+    private static final String ADMIN_PASSWORD = "loadtest";
+
+    private static EmbeddedPostgres postgres;
+    private static FakeS3Server s3;
+
+    /** One weighted kind of request; the name is the report key. */
+    private record Operation(String name, int weight, Function<Random, HttpRequest.Builder> request) {}
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Value("${minio.bucket.name}")
+    String bucket;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void stubs(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        s3 = new FakeS3Server();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("minio.url", s3::endpoint);
+        registry.add("auth.refresh-store", () -> "memory");
+        registry.add("app.notifications.fan-out", () -> "local");
+        // Tokens must outlive the run; SQL logging would dominate the measurements
+        registry.add("jwt.expiration", () -> "86400000");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("logging.level.org.springframework.mail", () -> "INFO");
+    }
+
+    @AfterAll
+    static void stopStubs() throws IOException {
+        if (s3 != null) {
+            s3.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void mixedCatalogTraffic() throws Exception {
+        CatalogSeeder seeder = new CatalogSeeder(jdbc, s3, bucket);
+        seeder.resetAdminPassword(ADMIN_PASSWORD);
+        CatalogSeeder.Catalog catalog = seeder.seed(ALBUMS, IMAGES, IMAGE_SIZE);
+        String token = login();
+
+        byte[] loginBody = objectMapper.writeValueAsBytes(Map.of("username", "admin", "password", ADMIN_PASSWORD));
+        String boundary = "loadtest-boundary";
+        byte[] uploadBody = multipart(boundary, UPLOAD_SIZE);
+        int albumPages = Math.max(1, catalog.albumIds().size() / 20);
+        int artistaPages = Math.max(1, catalog.artistaIds().size() / 20);
+
+        List<Operation> operations = List.of(
+                new Operation("POST /v1/auth/login", 2, random -> post("/v1/auth/login", "application/json", loginBody)),
+                new Operation("GET /v1/albuns", 15, random -> get(token, "/v1/albuns?page=" + random.nextInt(albumPages)
+                        + (random.nextBoolean() ? "&ativo=true" : "&sort=titulo"))),
+                new Operation("GET /v1/artistas", 8, random -> get(token, "/v1/artistas?page=" + random.nextInt(artistaPages))),
+                new Operation("GET /v1/artistas-albuns", 7, random -> get(token, "/v1/artistas-albuns?artistaId="
+                        + pick(catalog.artistaIds(), random))),
+                new Operation("GET /v1/albuns/{id}/detail", 30, random -> get(token, "/v1/albuns/"
+                        + pick(catalog.albumIds(), random) + "/detail")),
+                new Operation("GET /v1/images/{id}/raw", 35, random -> get(token, "/v1/images/"
+                        + pick(catalog.imageKeys(), random) + "/raw")),
+                new Operation("POST /v1/images", 3, random -> post("/v1/images", "multipart/form-data; boundary=" + boundary,
+                        uploadBody).header("Authorization", "Bearer " + token)));
+
+        LatencyReport report = new LatencyReport();
+        long start = System.nanoTime();
+        long measureFrom = start + WARMUP.toNanos();
+        long end = measureFrom + DURATION.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                workers.submit(() -> drive(operations, report, measureFrom, end));
+            }
+        }
+
+        List<String> names = operations.stream().map(Operation::name).toList();
+        List<LatencyReport.EndpointStats> stats = report.stats(names, DURATION.toNanos() / 1e9);
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("albums", catalog.albumIds().size());
+        run.put("artistas", catalog.artistaIds().size());
+        run.put("images", catalog.imageKeys().size());
+        run.put("imageSize", IMAGE_SIZE);
+        run.put("concurrency", CONCURRENCY);
+        run.put("warmupSeconds", WARMUP.toSeconds());
+        run.put("durationSeconds", DURATION.toSeconds());
+        System.out.println(report.table(stats));
+        report.write(REPORT, run, stats);
+
+        for (LatencyReport.EndpointStats endpoint : stats) {
+            assertThat(endpoint.requests()).as(endpoint.endpoint()).isPositive();
+            assertThat(endpoint.errors()).as(endpoint.endpoint()).isLessThanOrEqualTo(endpoint.requests() / 100);
+        }
+    }
+
+    private void drive(List<Operation> operations, LatencyReport report, long measureFrom, long end) {
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        Random random = ThreadLocalRandom.current();
+        while (System.nanoTime() < end) {
+            Operation operation = choose(operations, random.nextInt(totalWeight));
+            HttpRequest request = operation.request().apply(random).timeout(Duration.ofSeconds(30)).build();
+            long started = System.nanoTime();
+            boolean success;
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                success = status >= 200 && status < 300;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (started >= measureFrom) {
+                report.record(operation.name(), System.nanoTime() - started, success);
+            }
+        }
+    }
+
+    private String login() throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("username", "admin", "password", ADMIN_PASSWORD));
+        HttpResponse<String> response = client.send(post("/v1/auth/login", "application/json", body).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private HttpRequest.Builder get(String token, String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String contentType, byte[] body) {
+        return HttpRequest.newBuilder(uri(path)).header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api" + path);
+    }
+
+    private static Operation choose(List<Operation> operations, int ticket) {
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights changed during the run");
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static byte[] multipart(String boundary, int size) {
+        byte[] image = new byte[size];
+        new Random(7).nextBytes(image);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"capa.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(image);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}
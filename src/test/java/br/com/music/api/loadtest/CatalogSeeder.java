@@ -0,0 +1,72 @@
+package br.com.music.api.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Fills the schema created by the Liquibase changelogs with a synthetic catalogue: one artist
+ * per five albums, every album linked to an artist (every tenth to a second one) and the first
+ * albums given a cover stored in the fake S3.
+ */
+class CatalogSeeder {
+
+    record Catalog(List<Long> albumIds, List<Long> artistaIds, List<String> imageKeys) {}
+
+    private final JdbcTemplate jdbc;
+    private final FakeS3Server s3;
+    private final String bucket;
+
+    CatalogSeeder(JdbcTemplate jdbc, FakeS3Server s3, String bucket) {
+        this.jdbc = jdbc;
+        this.s3 = s3;
+        this.bucket = bucket;
+    }
+
+    Catalog seed(int albums, int images, int imageSize) {
+        int artistas = Math.max(1, albums / 5);
+        jdbc.update("""
+                INSERT INTO artista (nome, tipo, ativo)
+                SELECT 'Artista Carga ' || g, CASE WHEN g % 3 = 0 THEN 'BANDA' ELSE 'CANTOR' END, g % 20 <> 0
+                FROM generate_series(1, ?) g
+                """, artistas);
+        jdbc.update("""
+                INSERT INTO album (titulo, data_lancamento, ativo)
+                SELECT 'Álbum Carga ' || g, DATE '1960-01-01' + (g % 23000), g % 10 <> 0
+                FROM generate_series(1, ?) g
+                """, albums);
+        jdbc.update("""
+                WITH al AS (SELECT id, row_number() OVER (ORDER BY id) - 1 AS n FROM album WHERE titulo LIKE 'Álbum Carga %'),
+                     ar AS (SELECT id, row_number() OVER (ORDER BY id) - 1 AS n FROM artista WHERE nome LIKE 'Artista Carga %')
+                INSERT INTO artista_album (artista_id, album_id)
+                SELECT ar.id, al.id FROM al JOIN ar ON ar.n = al.n % ?
+                UNION ALL
+                SELECT ar.id, al.id FROM al JOIN ar ON ar.n = (al.n + 1) % ? WHERE al.n % 10 = 0 AND ? > 1
+                ON CONFLICT DO NOTHING
+                """, artistas, artistas, artistas);
+
+        List<Long> albumIds = jdbc.queryForList("SELECT id FROM album ORDER BY id", Long.class);
+        List<String> imageKeys = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < Math.min(images, albumIds.size()); i++) {
+            byte[] data = new byte[imageSize];
+            random.nextBytes(data);
+            String key = "carga-" + i + ".jpg";
+            s3.put(bucket, key, data, "image/jpeg");
+            jdbc.update("INSERT INTO album_imagem (bucket, object_key, content_type, tamanho, album_id) VALUES (?, ?, ?, ?, ?)",
+                    bucket, key, "image/jpeg", (long) imageSize, albumIds.get(i));
+            imageKeys.add(key);
+        }
+        jdbc.execute("ANALYZE");
+
+        return new Catalog(albumIds, jdbc.queryForList("SELECT id FROM artista ORDER BY id", Long.class), imageKeys);
+    }
+
+    // The changelog only ships a hash for the admin user, so the run sets a known password
+    void resetAdminPassword(String password) {
+        jdbc.update("UPDATE users SET password = ? WHERE username = 'admin'", new BCryptPasswordEncoder().encode(password));
+    }
+}
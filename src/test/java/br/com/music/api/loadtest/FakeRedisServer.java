@@ -0,0 +1,241 @@
+package br.com.music.api.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in for Redis that speaks RESP2 for the commands the refresh token store, the
+ * notification fan-out and the Lettuce handshake send: {@code PING}, {@code SELECT}, {@code CLIENT},
+ * {@code SET} (with {@code EX}/{@code PX}), {@code GET}, {@code DEL}, {@code SUBSCRIBE},
+ * {@code UNSUBSCRIBE}, {@code PUBLISH} and {@code QUIT}. {@code HELLO} is refused so the client
+ * falls back to RESP2; scripts are not supported.
+ */
+public class FakeRedisServer implements AutoCloseable {
+
+    private record Value(byte[] data, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+
+    private final Map<String, Value> values = new ConcurrentHashMap<>();
+    private final Map<String, Set<OutputStream>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ServerSocket server;
+
+    public FakeRedisServer() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.submit(this::accept);
+    }
+
+    public String host() {
+        return server.getInetAddress().getHostAddress();
+    }
+
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    public int keyCount() {
+        return values.size();
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                executor.submit(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        OutputStream out = null;
+        try (socket; InputStream in = new BufferedInputStream(socket.getInputStream())) {
+            out = new BufferedOutputStream(socket.getOutputStream());
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                // Published messages are written from other connections' threads
+                synchronized (out) {
+                    boolean open = execute(command, out);
+                    out.flush();
+                    if (!open) {
+                        return;
+                    }
+                }
+            }
+        } catch (EOFException e) {
+            // Client closed the connection
+        } catch (IOException e) {
+            // Connection reset
+        } finally {
+            if (out != null) {
+                OutputStream closed = out;
+                subscribers.values().forEach(outputs -> outputs.remove(closed));
+            }
+        }
+    }
+
+    private boolean execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = command.isEmpty() ? "" : text(command.get(0)).toUpperCase(Locale.ROOT);
+        switch (name) {
+            case "SUBSCRIBE" -> {
+                for (byte[] channel : command.subList(1, command.size())) {
+                    subscribers.computeIfAbsent(text(channel), key -> ConcurrentHashMap.newKeySet()).add(out);
+                    reply(out, "subscribe", channel, subscriptions(out));
+                }
+            }
+            case "UNSUBSCRIBE" -> {
+                for (byte[] channel : command.subList(1, command.size())) {
+                    Set<OutputStream> outputs = subscribers.get(text(channel));
+                    if (outputs != null) {
+                        outputs.remove(out);
+                    }
+                    reply(out, "unsubscribe", channel, subscriptions(out));
+                }
+            }
+            case "PUBLISH" -> {
+                int delivered = 0;
+                Set<OutputStream> outputs = subscribers.getOrDefault(text(command.get(1)), Set.of());
+                for (OutputStream subscriber : outputs) {
+                    // Subscribed connections cannot publish, so this never waits on a lock held the other way round
+                    synchronized (subscriber) {
+                        try {
+                            subscriber.write("*3\r\n".getBytes(StandardCharsets.US_ASCII));
+                            bulk(subscriber, "message".getBytes(StandardCharsets.US_ASCII));
+                            bulk(subscriber, command.get(1));
+                            bulk(subscriber, command.get(2));
+                            subscriber.flush();
+                            delivered++;
+                        } catch (IOException e) {
+                            outputs.remove(subscriber);
+                        }
+                    }
+                }
+                out.write((":" + delivered + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            }
+            case "PING" -> simple(out, "PONG");
+            case "SELECT", "CLIENT" -> simple(out, "OK");
+            case "SET" -> {
+                long expiresAt = 0;
+                for (int i = 3; i + 1 < command.size(); i += 2) {
+                    String option = text(command.get(i)).toUpperCase(Locale.ROOT);
+                    long amount = Long.parseLong(text(command.get(i + 1)));
+                    if (option.equals("PX")) {
+                        expiresAt = System.nanoTime() + amount * 1_000_000L;
+                    } else if (option.equals("EX")) {
+                        expiresAt = System.nanoTime() + amount * 1_000_000_000L;
+                    }
+                }
+                values.put(text(command.get(1)), new Value(command.get(2), expiresAt));
+                simple(out, "OK");
+            }
+            case "GET" -> {
+                Value value = values.get(text(command.get(1)));
+                if (value == null || value.isExpired(System.nanoTime())) {
+                    out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+                } else {
+                    bulk(out, value.data());
+                }
+            }
+            case "DEL" -> {
+                int removed = 0;
+                for (byte[] key : command.subList(1, command.size())) {
+                    removed += values.remove(text(key)) == null ? 0 : 1;
+                }
+                out.write((":" + removed + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            }
+            case "QUIT" -> {
+                simple(out, "OK");
+                out.flush();
+                return false;
+            }
+            default -> out.write(("-ERR unknown command '" + name + "'\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+        return true;
+    }
+
+    // Commands arrive as an array of bulk strings: *<n>\r\n then $<len>\r\n<bytes>\r\n per argument
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (!header.startsWith("*")) {
+            throw new IOException("Inline commands are not supported: " + header);
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<byte[]> arguments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String length = readLine(in);
+            if (!length.startsWith("$")) {
+                throw new IOException("Expected a bulk string, got " + length);
+            }
+            byte[] argument = in.readNBytes(Integer.parseInt(length.substring(1)));
+            readLine(in);
+            arguments.add(argument);
+        }
+        return arguments;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c < 0) {
+                throw new EOFException();
+            }
+            line.append((char) c);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private int subscriptions(OutputStream out) {
+        return (int) subscribers.values().stream().filter(outputs -> outputs.contains(out)).count();
+    }
+
+    // Subscription replies: [kind, channel, number of channels this connection is subscribed to]
+    private static void reply(OutputStream out, String kind, byte[] channel, int count) throws IOException {
+        out.write("*3\r\n".getBytes(StandardCharsets.US_ASCII));
+        bulk(out, kind.getBytes(StandardCharsets.US_ASCII));
+        bulk(out, channel);
+        out.write((":" + count + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void bulk(OutputStream out, byte[] data) throws IOException {
+        out.write(("$" + data.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(data);
+        out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void simple(OutputStream out, String reply) throws IOException {
+        out.write(("+" + reply + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String text(byte[] data) {
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        executor.shutdownNow();
+    }
+}
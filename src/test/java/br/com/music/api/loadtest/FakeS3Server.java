@@ -0,0 +1,166 @@
+package br.com.music.api.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for MinIO that speaks just enough of the S3 REST API for
+ * {@link io.minio.MinioClient}: path-style bucket head/create and object put, get, head and
+ * delete. Objects live in memory and request signatures are not checked.
+ */
+public class FakeS3Server implements AutoCloseable {
+
+    record StoredObject(byte[] data, String contentType, String etag, ZonedDateTime lastModified) {}
+
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> buckets = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    public FakeS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String endpoint() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public void put(String bucket, String key, byte[] data, String contentType) {
+        buckets.put(bucket, Boolean.TRUE);
+        objects.put(bucket + "/" + key, new StoredObject(data, contentType, etag(data), ZonedDateTime.now(ZoneOffset.UTC)));
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = URI.create(exchange.getRequestURI().getRawPath()).getPath();
+            String trimmed = path.startsWith("/") ? path.substring(1) : path;
+            int slash = trimmed.indexOf('/');
+            String bucket = slash < 0 ? trimmed : trimmed.substring(0, slash);
+            String key = slash < 0 || slash == trimmed.length() - 1 ? null : trimmed.substring(slash + 1);
+
+            if (bucket.isEmpty()) {
+                error(exchange, 400, "InvalidRequest", path);
+            } else if (key == null) {
+                handleBucket(exchange, bucket);
+            } else {
+                handleObject(exchange, bucket, key);
+            }
+        }
+    }
+
+    private void handleBucket(HttpExchange exchange, String bucket) throws IOException {
+        switch (exchange.getRequestMethod()) {
+            case "HEAD" -> {
+                if (buckets.containsKey(bucket)) {
+                    empty(exchange, 200);
+                } else {
+                    error(exchange, 404, "NoSuchBucket", bucket);
+                }
+            }
+            case "PUT" -> {
+                exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+                buckets.put(bucket, Boolean.TRUE);
+                empty(exchange, 200);
+            }
+            default -> error(exchange, 501, "NotImplemented", bucket);
+        }
+    }
+
+    private void handleObject(HttpExchange exchange, String bucket, String key) throws IOException {
+        String id = bucket + "/" + key;
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                byte[] data;
+                try (InputStream body = exchange.getRequestBody()) {
+                    data = body.readAllBytes();
+                }
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                put(bucket, key, data, contentType == null ? "application/octet-stream" : contentType);
+                exchange.getResponseHeaders().set("ETag", "\"" + objects.get(id).etag() + "\"");
+                empty(exchange, 200);
+            }
+            case "GET", "HEAD" -> {
+                StoredObject object = objects.get(id);
+                if (object == null) {
+                    error(exchange, 404, "NoSuchKey", id);
+                    return;
+                }
+                var headers = exchange.getResponseHeaders();
+                headers.set("ETag", "\"" + object.etag() + "\"");
+                headers.set("Content-Type", object.contentType());
+                headers.set("Last-Modified", HTTP_DATE.format(object.lastModified()));
+                if ("HEAD".equals(exchange.getRequestMethod())) {
+                    headers.set("Content-Length", Long.toString(object.data().length));
+                    exchange.sendResponseHeaders(200, -1);
+                } else {
+                    exchange.sendResponseHeaders(200, object.data().length);
+                    exchange.getResponseBody().write(object.data());
+                }
+            }
+            case "DELETE" -> {
+                objects.remove(id);
+                empty(exchange, 204);
+            }
+            default -> error(exchange, 501, "NotImplemented", id);
+        }
+    }
+
+    private static void empty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    // Same XML error body as S3, so the client raises ErrorResponseException with the right code
+    private static void error(HttpExchange exchange, int status, String code, String resource) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code + "</Code>"
+                + "<Message>" + code + "</Message><Resource>/" + resource + "</Resource>"
+                + "<RequestId>fake</RequestId><HostId>fake</HostId></Error>").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static String etag(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
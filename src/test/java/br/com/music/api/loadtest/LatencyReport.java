@@ -0,0 +1,79 @@
+package br.com.music.api.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Per-endpoint latency histograms (microseconds, 3 significant digits) and error counts for
+ * one load-test run. Recording is lock-free so workers never coordinate through the report.
+ */
+class LatencyReport {
+
+    record EndpointStats(String endpoint, long requests, long errors, double throughputPerSecond,
+                         double p50Ms, double p99Ms, double p999Ms, double maxMs) {}
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        if (!success) {
+            errors.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+            return;
+        }
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS);
+        latencies.computeIfAbsent(endpoint, e -> new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3))
+                .recordValue(micros);
+    }
+
+    List<EndpointStats> stats(List<String> endpoints, double seconds) {
+        List<EndpointStats> stats = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            Histogram histogram = latencies.get(endpoint);
+            long ok = histogram == null ? 0 : histogram.getTotalCount();
+            long failed = errors.containsKey(endpoint) ? errors.get(endpoint).sum() : 0;
+            stats.add(new EndpointStats(endpoint, ok + failed, failed, ok / seconds,
+                    millis(histogram, 50.0), millis(histogram, 99.0), millis(histogram, 99.9),
+                    histogram == null ? 0 : histogram.getMaxValue() / 1000.0));
+        }
+        return stats;
+    }
+
+    String table(List<EndpointStats> stats) {
+        StringBuilder out = new StringBuilder(String.format("%-30s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        for (EndpointStats s : stats) {
+            out.append(String.format("%-30s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", s.endpoint(), s.requests(),
+                    s.errors(), s.throughputPerSecond(), s.p50Ms(), s.p99Ms(), s.p999Ms(), s.maxMs()));
+        }
+        return out.toString();
+    }
+
+    void write(Path file, Map<String, Object> run, List<EndpointStats> stats) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>(run);
+        json.put("endpoints", stats);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), json);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram == null ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,275 @@
+package br.com.music.api.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Smoke test for the native image: the GraalVM binary and the regular jar are started in turn
+ * against local stand-ins (embedded PostgreSQL, {@link FakeS3Server}, {@link FakeRedisServer}),
+ * the paths that lean on reflection are exercised (login and JWT, Hibernate queries, MinIO
+ * download, the OpenAPI document) and the time to readiness and resident memory of both builds
+ * are reported side by side.
+ * <p>
+ * Excluded from the regular build; after {@code ./mvnw -Pnative native:compile -DskipTests} run
+ * {@code ./mvnw -Pnative-smoke test}. Artifacts come from {@code smoke.native} and {@code smoke.jar}
+ * (a missing one is skipped) and the report is printed and written as JSON to {@code smoke.report}.
+ * Resident memory is read from {@code /proc}, so it is only reported on Linux.
+ */
+@Tag("native-smoke")
+class NativeSmokeTest {
+
+    private static final Path NATIVE = Path.of(System.getProperty("smoke.native", "target/music-api"));
+    private static final Path JAR = Path.of(System.getProperty("smoke.jar", "target/music-api-0.0.1-SNAPSHOT.jar"));
+    private static final Path REPORT = Path.of(System.getProperty("smoke.report", "target/native-smoke-report.json"));
+    private static final int TRAFFIC = Integer.getInteger("smoke.requests", 200);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+    private static final String BUCKET = "smoke";
+    private static final String ADMIN_PASSWORD = "smoke";
+
+    private static EmbeddedPostgres postgres;
+    private static FakeS3Server s3;
+    private static FakeRedisServer redis;
+
+    /** A build under test and the command that starts it. */
+    private record Build(String name, Path artifact, List<String> command) {}
+
+    /** What one build measured; memory in MB, -1 when unavailable. */
+    private record Result(String build, long readyMillis, String startedIn, long rssReadyMb, long rssAfterTrafficMb) {}
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startStandIns() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        s3 = new FakeS3Server();
+        redis = new FakeRedisServer();
+    }
+
+    @AfterAll
+    static void stopStandIns() throws IOException {
+        if (redis != null) {
+            redis.close();
+        }
+        if (s3 != null) {
+            s3.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void nativeAndJvmBuilds() throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<Build> builds = Stream.of(
+                        new Build("native", NATIVE, List.of(NATIVE.toAbsolutePath().toString())),
+                        new Build("jvm", JAR, List.of(java, "-jar", JAR.toAbsolutePath().toString())))
+                .filter(build -> Files.isRegularFile(build.artifact()))
+                .toList();
+        assumeTrue(!builds.isEmpty(), "Neither " + NATIVE + " nor " + JAR + " exists; build them first");
+
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        // Schema through the application's own migrate-only mode, so the measured starts skip Liquibase
+        migrate(builds.get(0));
+        JdbcTemplate jdbc = new JdbcTemplate(postgres.getPostgresDatabase());
+        CatalogSeeder seeder = new CatalogSeeder(jdbc, s3, BUCKET);
+        seeder.resetAdminPassword(ADMIN_PASSWORD);
+        CatalogSeeder.Catalog catalog = seeder.seed(100, 5, 16 * 1024);
+
+        List<Result> results = new ArrayList<>();
+        for (Build build : builds) {
+            results.add(measure(build, catalog));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", TRAFFIC);
+        report.put("builds", results);
+        System.out.println(table(results));
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT.toFile(), report);
+    }
+
+    private void migrate(Build build) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(build.command());
+        command.addAll(arguments(0, true));
+        command.add("--app.migrate-only=true");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log(build.name() + "-migrate").toFile())
+                .start();
+        try {
+            assertThat(process.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS))
+                    .as("%s migrate-only run finished", build.name()).isTrue();
+            assertThat(process.exitValue()).as("%s migrate-only exit code", build.name()).isZero();
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    private Result measure(Build build, CatalogSeeder.Catalog catalog) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>(build.command());
+        command.addAll(arguments(port));
+        Path log = log(build.name());
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            awaitReady(build, process, port);
+            long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            long rssReady = rssMb(process);
+
+            String token = login(port);
+            List<String> paths = List.of(
+                    "/v1/albuns?page=0&size=20",
+                    "/v1/artistas?page=0",
+                    "/v1/artistas-albuns?artistaId=" + catalog.artistaIds().get(0),
+                    "/v1/albuns/" + catalog.albumIds().get(0) + "/detail",
+                    "/v1/images/" + catalog.imageKeys().get(0) + "/raw",
+                    "/v3/api-docs");
+            for (int i = 0; i < TRAFFIC; i++) {
+                String path = paths.get(i % paths.size());
+                HttpResponse<String> response = client.send(get(port, token, path), HttpResponse.BodyHandlers.ofString());
+                assertThat(response.statusCode()).as("%s GET %s: %s", build.name(), path, response.body()).isEqualTo(200);
+            }
+
+            return new Result(build.name(), readyMillis, startedIn(log), rssReady, rssMb(process));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private List<String> arguments(int port) {
+        return arguments(port, false);
+    }
+
+    // A repeated option is joined into "false,true" rather than overridden, so the flag is set once here
+    private List<String> arguments(int port, boolean liquibase) {
+        return List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.data.redis.host=" + redis.host(),
+                "--spring.data.redis.port=" + redis.port(),
+                "--minio.url=" + s3.endpoint(),
+                "--minio.bucket.name=" + BUCKET,
+                "--spring.liquibase.enabled=" + liquibase,
+                "--logging.level.org.springframework.mail=INFO");
+    }
+
+    private void awaitReady(Build build, Process process, int port) throws IOException, InterruptedException {
+        HttpRequest readiness = HttpRequest.newBuilder(uri(port, "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2)).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("%s exited during startup, see %s", build.name(), log(build.name())).isTrue();
+            try {
+                if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError(build.name() + " not ready after " + STARTUP_TIMEOUT + ", see " + log(build.name()));
+    }
+
+    private String login(int port) throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("username", "admin", "password", ADMIN_PASSWORD));
+        HttpRequest request = HttpRequest.newBuilder(uri(port, "/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private static HttpRequest get(int port, String token, String path) {
+        return HttpRequest.newBuilder(uri(port, path)).header("Authorization", "Bearer " + token).GET().build();
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + "/api" + path);
+    }
+
+    private static Path log(String name) {
+        return REPORT.toAbsolutePath().resolveSibling("native-smoke-" + name + ".log");
+    }
+
+    private static String startedIn(Path log) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log, StandardCharsets.UTF_8));
+        return matcher.find() ? matcher.group(1) + "s" : "?";
+    }
+
+    private static long rssMb(Process process) throws IOException {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (!Files.isReadable(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")) / 1024)
+                .findFirst()
+                .orElse(-1L);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String table(List<Result> results) {
+        StringBuilder sb = new StringBuilder(String.format("%-8s %12s %12s %12s %16s%n",
+                "build", "ready (ms)", "started in", "RSS (MB)", "RSS after (MB)"));
+        for (Result result : results) {
+            sb.append(String.format("%-8s %12d %12s %12d %16d%n", result.build(), result.readyMillis(),
+                    result.startedIn(), result.rssReadyMb(), result.rssAfterTrafficMb()));
+        }
+        return sb.toString();
+    }
+}